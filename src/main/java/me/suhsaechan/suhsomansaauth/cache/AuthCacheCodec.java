@@ -0,0 +1,129 @@
+package me.suhsaechan.suhsomansaauth.cache;
+
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult.Outcome;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Locale;
+
+/**
+ * 캐시 구현체 공통 키/값 인코딩
+ */
+final class AuthCacheCodec {
+
+    static final int SECRET_LENGTH = 32;
+
+    private AuthCacheCodec() {
+    }
+
+    /**
+     * 인증 결과 키 (로그인 ID + 비밀번호의 HMAC-SHA256)
+     */
+    static byte[] verdictKey(byte[] secret, String loginId, String password) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            mac.update(normalizeLoginId(loginId).getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 생성 실패", e);
+        }
+    }
+
+    static byte[] nameKey(String loginId) {
+        return normalizeLoginId(loginId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String normalizeLoginId(String loginId) {
+        return loginId.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 인증 결과 직렬화 (결과 종류만 저장, 요청 ID/이름은 저장하지 않음)
+     */
+    static byte[] encodeVerdict(SomansaAuthResult result) {
+        return result.getOutcome().name().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 인증 결과 역직렬화 (공유 상수 인스턴스 반환)
+     *
+     * @return 손상되었거나 알 수 없는 값이면 null
+     */
+    static SomansaAuthResult decodeVerdict(byte[] value) {
+        try {
+            return SomansaAuthResult.of(Outcome.valueOf(new String(value, StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    static byte[] encodeName(String userName) {
+        return userName.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String decodeName(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * FNV-1a 64비트 해시
+     */
+    static long hash(byte type, byte[] key) {
+        long hash = 0xcbf29ce484222325L;
+        hash = (hash ^ type) * 0x100000001b3L;
+        for (byte b : key) {
+            hash = (hash ^ (b & 0xFF)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    static byte[] randomSecret() {
+        byte[] secret = new byte[SECRET_LENGTH];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+
+    /**
+     * HMAC 비밀키 파일 로드 (없으면 생성, 소유자만 읽기/쓰기)
+     * 여러 프로세스가 동시에 생성하려 해도 먼저 만든 키를 모두가 사용합니다.
+     */
+    static byte[] loadOrCreateSecret(Path keyPath) throws IOException {
+        if (!Files.exists(keyPath)) {
+            byte[] created = randomSecret();
+            Path temp = Files.createTempFile(keyPath.getParent(), keyPath.getFileName().toString(), ".tmp");
+            try {
+                try {
+                    Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+                } catch (UnsupportedOperationException ignored) {
+                    // POSIX 권한을 지원하지 않는 파일 시스템
+                }
+                Files.write(temp, created, StandardOpenOption.WRITE);
+                Files.createLink(keyPath, temp);
+            } catch (FileAlreadyExistsException | UnsupportedOperationException ignored) {
+                // 다른 프로세스가 먼저 생성했거나 하드 링크를 지원하지 않음
+                if (!Files.exists(keyPath)) {
+                    Files.write(keyPath, created, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        byte[] secret = Files.readAllBytes(keyPath);
+        if (secret.length != SECRET_LENGTH) {
+            throw new IOException("잘못된 비밀키 파일: " + keyPath);
+        }
+        return secret;
+    }
+}
@@ -0,0 +1,134 @@
+package me.suhsaechan.suhsomansaauth.cache;
+
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 프로세스 내 인증 결과/사용자 이름 캐시 (기본 구현)
+ * 인증 결과 키는 인스턴스마다 새로 만든 비밀키로 HMAC 처리하므로 비밀번호 원문은 메모리에 남지 않습니다.
+ * 항목 수가 상한을 넘으면 가장 오래 사용하지 않은 항목부터 제거하고,
+ * 만료된 항목은 조회 시와 일정 횟수의 저장마다 한꺼번에 정리합니다.
+ */
+public class InMemoryAuthCache implements SomansaAuthCache {
+
+    // 만료 항목 일괄 정리 최소 간격 (저장 횟수)
+    private static final int MIN_SWEEP_INTERVAL = 64;
+
+    private final long verdictTtlMillis;
+    private final long nameTtlMillis;
+    private final int maxEntries;
+    private final int sweepInterval;
+    private final byte[] secret = AuthCacheCodec.randomSecret();
+
+    // 인증 결과(ByteBuffer 키)와 사용자 이름(String 키)을 함께 보관하는 접근 순서 맵 (this 로 동기화)
+    private final LinkedHashMap<Object, Entry> entries;
+    private int putsSinceSweep;
+
+    public InMemoryAuthCache(Duration verdictTtl, Duration nameTtl, int maxEntries) {
+        this.verdictTtlMillis = verdictTtl.toMillis();
+        this.nameTtlMillis = nameTtl.toMillis();
+        this.maxEntries = Math.max(1, maxEntries);
+        // 정리 비용(전체 순회)이 저장 몇 번에 나뉘도록 상한의 1/4 마다 정리
+        this.sweepInterval = Math.max(MIN_SWEEP_INTERVAL, this.maxEntries / 4);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                return size() > InMemoryAuthCache.this.maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public SomansaAuthResult getVerdict(String loginId, String password) {
+        if (verdictTtlMillis <= 0) {
+            return null;
+        }
+        return (SomansaAuthResult) get(verdictKey(loginId, password));
+    }
+
+    @Override
+    public void putVerdict(String loginId, String password, SomansaAuthResult result) {
+        if (verdictTtlMillis <= 0) {
+            return;
+        }
+        // 요청 ID 등 호출별 정보가 섞이지 않도록 공유 상수로 저장
+        put(verdictKey(loginId, password), SomansaAuthResult.of(result.getOutcome()), verdictTtlMillis);
+    }
+
+    @Override
+    public String getUserName(String loginId) {
+        return (String) get(AuthCacheCodec.normalizeLoginId(loginId));
+    }
+
+    @Override
+    public void putUserName(String loginId, String userName) {
+        put(AuthCacheCodec.normalizeLoginId(loginId), userName, nameTtlMillis);
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return false;
+    }
+
+    /**
+     * 현재 항목 수 (만료 여부와 무관)
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private ByteBuffer verdictKey(String loginId, String password) {
+        return ByteBuffer.wrap(AuthCacheCodec.verdictKey(secret, loginId, password));
+    }
+
+    private synchronized Object get(Object key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    private synchronized void put(Object key, Object value, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        // 상한 초과 시 가장 오래 사용하지 않은 항목은 removeEldestEntry 로 제거
+        entries.put(key, new Entry(value, now + ttlMillis));
+        if (++putsSinceSweep >= sweepInterval) {
+            putsSinceSweep = 0;
+            sweepExpired(now);
+        }
+    }
+
+    private void sweepExpired(long now) {
+        Iterator<Entry> values = entries.values().iterator();
+        while (values.hasNext()) {
+            if (values.next().isExpired(now)) {
+                values.remove();
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+        private final long expiresAt;
+
+        private Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt < now;
+        }
+    }
+}
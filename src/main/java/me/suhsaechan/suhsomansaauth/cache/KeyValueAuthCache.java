@@ -0,0 +1,104 @@
+package me.suhsaechan.suhsomansaauth.cache;
+
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.util.SomansaLogger;
+
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Redis 등 외부 키-값 저장소를 사용하는 인증 결과/사용자 이름 캐시 어댑터
+ * 만료는 저장소의 TTL 에 맡기며, 저장소 장애는 캐시 미스로 처리해 인증을 계속 진행합니다.
+ *
+ * 키 형식:
+ * - {prefix}verdict:{HMAC-SHA256(로그인 ID, 비밀번호) 16진수}
+ * - {prefix}name:{정규화된 로그인 ID}
+ *
+ * 여러 호스트가 같은 결과를 공유하려면 모든 인스턴스에 같은 비밀키를 설정해야 합니다.
+ */
+public class KeyValueAuthCache implements SomansaAuthCache {
+
+    private static final SomansaLogger logger = SomansaLogger.getLogger(KeyValueAuthCache.class);
+
+    private final KeyValueClient client;
+    private final String keyPrefix;
+    private final byte[] secret;
+    private final Duration verdictTtl;
+    private final Duration nameTtl;
+
+    /**
+     * @param client 키-값 저장소 클라이언트
+     * @param keyPrefix 키 접두사 (예: "somansa-auth:")
+     * @param secret 인증 결과 키용 HMAC 비밀키 (32바이트 이상 권장)
+     * @param verdictTtl 인증 결과 유효 기간 (0 이면 인증 결과는 캐시하지 않음)
+     * @param nameTtl 사용자 이름 유효 기간
+     */
+    public KeyValueAuthCache(KeyValueClient client, String keyPrefix, byte[] secret,
+                             Duration verdictTtl, Duration nameTtl) {
+        if (secret == null || secret.length == 0) {
+            throw new IllegalArgumentException("HMAC 비밀키가 필요합니다");
+        }
+        this.client = client;
+        this.keyPrefix = keyPrefix != null ? keyPrefix : "";
+        this.secret = secret.clone();
+        this.verdictTtl = verdictTtl;
+        this.nameTtl = nameTtl;
+    }
+
+    @Override
+    public SomansaAuthResult getVerdict(String loginId, String password) {
+        if (!isVerdictCached()) {
+            return null;
+        }
+        byte[] value = get(verdictKey(loginId, password));
+        return value != null ? AuthCacheCodec.decodeVerdict(value) : null;
+    }
+
+    @Override
+    public void putVerdict(String loginId, String password, SomansaAuthResult result) {
+        if (!isVerdictCached()) {
+            return;
+        }
+        set(verdictKey(loginId, password), AuthCacheCodec.encodeVerdict(result), verdictTtl);
+    }
+
+    @Override
+    public String getUserName(String loginId) {
+        byte[] value = get(nameKey(loginId));
+        return value != null ? AuthCacheCodec.decodeName(value) : null;
+    }
+
+    @Override
+    public void putUserName(String loginId, String userName) {
+        set(nameKey(loginId), AuthCacheCodec.encodeName(userName), nameTtl);
+    }
+
+    private boolean isVerdictCached() {
+        return verdictTtl != null && !verdictTtl.isZero() && !verdictTtl.isNegative();
+    }
+
+    private String verdictKey(String loginId, String password) {
+        return keyPrefix + "verdict:" + HexFormat.of().formatHex(AuthCacheCodec.verdictKey(secret, loginId, password));
+    }
+
+    private String nameKey(String loginId) {
+        return keyPrefix + "name:" + AuthCacheCodec.normalizeLoginId(loginId);
+    }
+
+    private byte[] get(String key) {
+        try {
+            return client.get(key);
+        } catch (RuntimeException e) {
+            logger.error("키-값 캐시 조회 실패 - 캐시 없이 진행", e);
+            return null;
+        }
+    }
+
+    private void set(String key, byte[] value, Duration ttl) {
+        try {
+            client.set(key, value, ttl);
+        } catch (RuntimeException e) {
+            logger.error("키-값 캐시 기록 실패", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package me.suhsaechan.suhsomansaauth.cache;
+
+import java.time.Duration;
+
+/**
+ * 외부 키-값 저장소 클라이언트 (Redis 등)
+ * 라이브러리가 특정 Redis 클라이언트에 의존하지 않도록 필요한 명령만 정의합니다.
+ *
+ * <pre>
+ * // Lettuce 예시
+ * KeyValueClient client = new KeyValueClient() {
+ *     public byte[] get(String key) { return commands.get(key); }
+ *     public void set(String key, byte[] value, Duration ttl) { commands.psetex(key, ttl.toMillis(), value); }
+ * };
+ * </pre>
+ */
+public interface KeyValueClient {
+
+    /**
+     * 값 조회 (GET)
+     *
+     * @return 없거나 만료되었으면 null
+     */
+    byte[] get(String key);
+
+    /**
+     * 만료 시간과 함께 값 저장 (SET key value PX ttl)
+     */
+    void set(String key, byte[] value, Duration ttl);
+}
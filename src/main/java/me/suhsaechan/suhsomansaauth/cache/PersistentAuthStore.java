@@ -0,0 +1,629 @@
+package me.suhsaechan.suhsomansaauth.cache;
+
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.util.SomansaLogger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * 디스크 기반 인증 결과/사용자 이름 저장소 (재시작 후 즉시 사용)
+ *
+ * - auth-store.log : 추가 전용 레코드 로그
+ * - auth-store.idx : 메모리 매핑된 해시 인덱스 (키 해시 → 로그 오프셋)
+ * - auth-store.key : 인증 결과 키 해시용 HMAC 비밀키 (비밀번호 원문은 저장하지 않음)
+ * - auth-store.lock : 저장소를 연 프로세스가 닫을 때까지 잡는 파일 락
+ *
+ * 인덱스가 로그와 일치하면 그대로 매핑만 하므로 시작 시간이 짧고,
+ * 일치하지 않으면(비정상 종료 등) 로그를 스캔해 다시 만듭니다.
+ * TTL 은 조회 시 검사하며, 주기적 압축으로 만료/덮어쓴 레코드를 제거합니다.
+ * 한 디렉토리는 한 번에 하나의 저장소만 열 수 있습니다 (여러 JVM 공유는 SharedMemoryAuthCache 사용).
+ */
+public class PersistentAuthStore implements SomansaAuthCache {
+
+    private static final SomansaLogger logger = SomansaLogger.getLogger(PersistentAuthStore.class);
+
+    private static final String LOG_FILE = "auth-store.log";
+    private static final String INDEX_FILE = "auth-store.idx";
+    private static final String KEY_FILE = "auth-store.key";
+    // 로그 파일은 압축 시 교체되므로 락은 별도 파일에 잡음
+    private static final String LOCK_FILE = "auth-store.lock";
+    private static final String COMPACT_SUFFIX = ".compact";
+
+    static final byte TYPE_VERDICT = 1;
+    static final byte TYPE_NAME = 2;
+
+    // 인덱스 헤더: magic(4) version(4) capacity(4) count(4) logLength(8) reserved(8)
+    private static final int INDEX_MAGIC = 0x534D4958;
+    private static final int INDEX_VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    // 슬롯: keyHash(8) offset+1(8), 0 이면 빈 슬롯
+    private static final int SLOT_SIZE = 16;
+    private static final double MAX_LOAD = 0.7;
+
+    // 레코드: magic(4) length(4) type(1) expiresAt(8) keyLen(2) key valLen(4) value crc(4)
+    private static final int RECORD_MAGIC = 0x534D5243;
+    private static final int RECORD_OVERHEAD = 4 + 4 + 1 + 8 + 2 + 4 + 4;
+
+    private final Path directory;
+    private final long verdictTtlMillis;
+    private final long nameTtlMillis;
+    private final byte[] secret;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService compactor;
+    private final FileChannel lockChannel;
+    private final FileLock fileLock;
+
+    private FileChannel logChannel;
+    private MappedByteBuffer index;
+    private int capacity;
+    private int count;
+    private long logLength;
+
+    private PersistentAuthStore(Path directory, Duration verdictTtl, Duration nameTtl,
+                                int initialCapacity, Duration compactionInterval) throws IOException {
+        this.directory = directory;
+        this.verdictTtlMillis = verdictTtl.toMillis();
+        this.nameTtlMillis = nameTtl.toMillis();
+
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        this.fileLock = tryLock(lockChannel, directory);
+        try {
+            this.secret = AuthCacheCodec.loadOrCreateSecret(directory.resolve(KEY_FILE));
+            long startNanos = System.nanoTime();
+            openFiles(tableSizeFor(initialCapacity));
+            logger.info("인증 저장소 로드 완료 - 항목: " + count + ", 소요: "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + "ms");
+        } catch (IOException | RuntimeException e) {
+            closeFiles();
+            lockChannel.close();
+            throw e;
+        }
+
+        if (compactionInterval != null && !compactionInterval.isZero() && !compactionInterval.isNegative()) {
+            this.compactor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "somansa-auth-store-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = compactionInterval.toMillis();
+            compactor.scheduleWithFixedDelay(this::compactQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.compactor = null;
+        }
+    }
+
+    /**
+     * 저장소 열기 (없으면 생성)
+     * 다른 프로세스(또는 같은 프로세스의 다른 저장소)가 이미 열어 둔 디렉토리면 IOException
+     *
+     * @param directory 저장 디렉토리
+     * @param verdictTtl 인증 결과 유효 기간 (0 이면 인증 결과는 캐시하지 않음)
+     * @param nameTtl 사용자 이름 유효 기간
+     * @param initialCapacity 초기 인덱스 슬롯 수
+     * @param compactionInterval 주기적 압축 간격 (null 또는 0 이면 수동 압축만)
+     */
+    public static PersistentAuthStore open(Path directory, Duration verdictTtl, Duration nameTtl,
+                                           int initialCapacity, Duration compactionInterval) throws IOException {
+        return new PersistentAuthStore(directory, verdictTtl, nameTtl, initialCapacity, compactionInterval);
+    }
+
+    /**
+     * 디렉토리 락 획득 (두 프로세스가 같은 로그에 추가하면 오프셋이 겹쳐 레코드가 손상됨)
+     */
+    private static FileLock tryLock(FileChannel channel, Path directory) throws IOException {
+        FileLock acquired;
+        try {
+            acquired = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // 같은 JVM 에서 이미 연 저장소
+            acquired = null;
+        }
+        if (acquired == null) {
+            channel.close();
+            throw new IOException("인증 저장소를 다른 프로세스가 사용 중입니다: " + directory);
+        }
+        return acquired;
+    }
+
+    /**
+     * 캐시된 인증 결과 조회
+     *
+     * @return 유효한 결과가 없으면 null
+     */
+    @Override
+    public SomansaAuthResult getVerdict(String loginId, String password) {
+        if (verdictTtlMillis <= 0) {
+            return null;
+        }
+        byte[] value = get(TYPE_VERDICT, verdictKey(loginId, password));
+        return value != null ? AuthCacheCodec.decodeVerdict(value) : null;
+    }
+
+    /**
+     * 인증 결과 저장 (키는 로그인 ID + 비밀번호의 HMAC)
+     */
+    @Override
+    public void putVerdict(String loginId, String password, SomansaAuthResult result) {
+        if (verdictTtlMillis <= 0) {
+            return;
+        }
+        put(TYPE_VERDICT, verdictKey(loginId, password), AuthCacheCodec.encodeVerdict(result), verdictTtlMillis);
+    }
+
+    /**
+     * 캐시된 사용자 이름 조회
+     *
+     * @return 유효한 이름이 없으면 null
+     */
+    @Override
+    public String getUserName(String loginId) {
+        byte[] value = get(TYPE_NAME, AuthCacheCodec.nameKey(loginId));
+        return value != null ? AuthCacheCodec.decodeName(value) : null;
+    }
+
+    /**
+     * 사용자 이름 저장
+     */
+    @Override
+    public void putUserName(String loginId, String userName) {
+        put(TYPE_NAME, AuthCacheCodec.nameKey(loginId), AuthCacheCodec.encodeName(userName), nameTtlMillis);
+    }
+
+    /**
+     * 유효한(만료 여부와 무관) 인덱스 항목 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== 레코드 조회/추가 =====
+
+    private byte[] get(byte type, byte[] key) {
+        long hash = AuthCacheCodec.hash(type, key);
+        lock.readLock().lock();
+        try {
+            if (index == null) {
+                return null;
+            }
+            int slot = findSlot(hash, type, key);
+            if (slot < 0) {
+                return null;
+            }
+            Record record = readRecord(slotOffset(slot));
+            if (record == null || record.expiresAt < System.currentTimeMillis()) {
+                return null;
+            }
+            return record.value;
+        } catch (IOException e) {
+            logger.error("인증 저장소 조회 중 예외", e);
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(byte type, byte[] key, byte[] value, long ttlMillis) {
+        long hash = AuthCacheCodec.hash(type, key);
+        byte[] encoded = encodeRecord(type, key, value, System.currentTimeMillis() + ttlMillis);
+        lock.writeLock().lock();
+        try {
+            if (index == null) {
+                return;
+            }
+            long offset = logLength;
+            writeFully(logChannel, ByteBuffer.wrap(encoded), offset);
+            logLength += encoded.length;
+
+            int slot = findSlot(hash, type, key);
+            if (slot >= 0) {
+                setSlot(slot, hash, offset);
+            } else {
+                setSlot(-slot - 1, hash, offset);
+                count++;
+            }
+            writeHeader();
+
+            if (count > capacity * MAX_LOAD) {
+                resizeIndex(capacity * 2);
+            }
+        } catch (IOException e) {
+            logger.error("인증 저장소 기록 중 예외", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키에 해당하는 슬롯 검색 (선형 탐사)
+     *
+     * @return 일치하는 슬롯, 없으면 -(빈 슬롯 + 1)
+     */
+    private int findSlot(long hash, byte type, byte[] key) throws IOException {
+        int mask = capacity - 1;
+        int slot = spread(hash) & mask;
+        for (int probe = 0; probe < capacity; probe++) {
+            long storedOffset = slotOffset(slot);
+            if (storedOffset < 0) {
+                return -slot - 1;
+            }
+            if (slotHash(slot) == hash) {
+                Record record = readRecord(storedOffset);
+                if (record != null && record.type == type && Arrays.equals(record.key, key)) {
+                    return slot;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+        throw new IOException("인덱스가 가득 참");
+    }
+
+    // ===== 압축 =====
+
+    /**
+     * 만료/덮어쓴 레코드를 제거한 새 로그와 인덱스로 교체
+     */
+    public void compact() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (index == null) {
+                return;
+            }
+            long startNanos = System.nanoTime();
+            long now = System.currentTimeMillis();
+            Path compactLog = directory.resolve(LOG_FILE + COMPACT_SUFFIX);
+            Path compactIndex = directory.resolve(INDEX_FILE + COMPACT_SUFFIX);
+
+            int live = 0;
+            long newLength = 0;
+            int newCapacity = tableSizeFor((int) Math.max(16, count / MAX_LOAD));
+            try (FileChannel newLog = FileChannel.open(compactLog, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 FileChannel newIndexChannel = FileChannel.open(compactIndex, StandardOpenOption.CREATE,
+                         StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer newIndex = newIndexChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                        HEADER_SIZE + (long) newCapacity * SLOT_SIZE);
+                for (int slot = 0; slot < capacity; slot++) {
+                    long offset = slotOffset(slot);
+                    if (offset < 0) {
+                        continue;
+                    }
+                    Record record = readRecord(offset);
+                    if (record == null || record.expiresAt < now) {
+                        continue;
+                    }
+                    byte[] encoded = encodeRecord(record.type, record.key, record.value, record.expiresAt);
+                    writeFully(newLog, ByteBuffer.wrap(encoded), newLength);
+                    insertSlot(newIndex, newCapacity, slotHash(slot), newLength);
+                    newLength += encoded.length;
+                    live++;
+                }
+                newLog.force(false);
+                writeHeader(newIndex, newCapacity, live, newLength);
+                newIndex.force();
+            }
+
+            // 인덱스를 먼저 지워 두면 교체 도중 중단되어도 다음 시작 시 로그에서 재구성됨
+            closeFiles();
+            try {
+                Files.deleteIfExists(directory.resolve(INDEX_FILE));
+                Files.move(compactLog, directory.resolve(LOG_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                Files.move(compactIndex, directory.resolve(INDEX_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                openFiles(newCapacity);
+            }
+
+            logger.info("인증 저장소 압축 완료 - 항목: " + live + ", 로그 크기: " + newLength + "B, 소요: "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + "ms");
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (Exception e) {
+            logger.error("인증 저장소 압축 중 예외", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (compactor != null) {
+            compactor.shutdownNow();
+        }
+        lock.writeLock().lock();
+        try {
+            if (index != null) {
+                writeHeader();
+                index.force();
+            }
+            closeFiles();
+        } finally {
+            try {
+                if (lockChannel.isOpen()) {
+                    fileLock.release();
+                    lockChannel.close();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // ===== 파일 열기/재구성 =====
+
+    private void openFiles(int defaultCapacity) throws IOException {
+        Path logPath = directory.resolve(LOG_FILE);
+        Path indexPath = directory.resolve(INDEX_FILE);
+        this.logChannel = FileChannel.open(logPath, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long actualLogLength = logChannel.size();
+
+        if (Files.exists(indexPath) && mapExistingIndex(indexPath, actualLogLength)) {
+            return;
+        }
+
+        // 인덱스가 없거나 로그와 맞지 않음 - 로그 스캔으로 재구성
+        logger.warn("인증 저장소 인덱스 재구성 - 로그 크기: " + actualLogLength + "B");
+        this.logLength = actualLogLength;
+        this.count = 0;
+        mapNewIndex(indexPath, defaultCapacity);
+        rebuildFromLog(actualLogLength);
+    }
+
+    private boolean mapExistingIndex(Path indexPath, long actualLogLength) throws IOException {
+        try (FileChannel indexChannel = FileChannel.open(indexPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (indexChannel.size() < HEADER_SIZE) {
+                return false;
+            }
+            MappedByteBuffer mapped = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, indexChannel.size());
+            int storedCapacity = mapped.getInt(8);
+            if (mapped.getInt(0) != INDEX_MAGIC
+                    || mapped.getInt(4) != INDEX_VERSION
+                    || Integer.bitCount(storedCapacity) != 1
+                    || indexChannel.size() != HEADER_SIZE + (long) storedCapacity * SLOT_SIZE
+                    || mapped.getLong(16) != actualLogLength) {
+                return false;
+            }
+            this.index = mapped;
+            this.capacity = storedCapacity;
+            this.count = mapped.getInt(12);
+            this.logLength = actualLogLength;
+            return true;
+        }
+    }
+
+    private void mapNewIndex(Path indexPath, int newCapacity) throws IOException {
+        Files.deleteIfExists(indexPath);
+        try (FileChannel indexChannel = FileChannel.open(indexPath, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            this.index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_SIZE + (long) newCapacity * SLOT_SIZE);
+        }
+        this.capacity = newCapacity;
+        writeHeader();
+    }
+
+    private void rebuildFromLog(long actualLogLength) throws IOException {
+        long offset = 0;
+        while (offset < actualLogLength) {
+            Record record = readRecord(offset);
+            if (record == null) {
+                // 마지막 레코드 기록 도중 중단된 경우 - 이후 내용 버림
+                logger.warn("손상된 레코드 이후 로그 절단 - 오프셋: " + offset);
+                logChannel.truncate(offset);
+                break;
+            }
+            long hash = AuthCacheCodec.hash(record.type, record.key);
+            int slot = findSlot(hash, record.type, record.key);
+            if (slot >= 0) {
+                setSlot(slot, hash, offset);
+            } else {
+                setSlot(-slot - 1, hash, offset);
+                count++;
+                if (count > capacity * MAX_LOAD) {
+                    resizeIndex(capacity * 2);
+                }
+            }
+            offset += record.length;
+        }
+        this.logLength = offset;
+        writeHeader();
+    }
+
+    /**
+     * 인덱스 확장 - 슬롯에 키 해시가 있으므로 로그를 읽지 않고 재배치
+     */
+    private void resizeIndex(int newCapacity) throws IOException {
+        Path indexPath = directory.resolve(INDEX_FILE);
+        Path resizedPath = directory.resolve(INDEX_FILE + COMPACT_SUFFIX);
+        MappedByteBuffer resized;
+        try (FileChannel channel = FileChannel.open(resizedPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            resized = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) newCapacity * SLOT_SIZE);
+        }
+        for (int slot = 0; slot < capacity; slot++) {
+            long offset = slotOffset(slot);
+            if (offset >= 0) {
+                insertSlot(resized, newCapacity, slotHash(slot), offset);
+            }
+        }
+        writeHeader(resized, newCapacity, count, logLength);
+        Files.move(resizedPath, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.index = resized;
+        this.capacity = newCapacity;
+    }
+
+    private void closeFiles() throws IOException {
+        this.index = null;
+        if (logChannel != null) {
+            logChannel.close();
+            logChannel = null;
+        }
+    }
+
+    // ===== 인덱스 슬롯 =====
+
+    private long slotHash(int slot) {
+        return index.getLong(HEADER_SIZE + slot * SLOT_SIZE);
+    }
+
+    private long slotOffset(int slot) {
+        return index.getLong(HEADER_SIZE + slot * SLOT_SIZE + 8) - 1;
+    }
+
+    private void setSlot(int slot, long hash, long offset) {
+        int position = HEADER_SIZE + slot * SLOT_SIZE;
+        index.putLong(position, hash);
+        index.putLong(position + 8, offset + 1);
+    }
+
+    private static void insertSlot(MappedByteBuffer target, int targetCapacity, long hash, long offset) {
+        int mask = targetCapacity - 1;
+        int slot = spread(hash) & mask;
+        while (target.getLong(HEADER_SIZE + slot * SLOT_SIZE + 8) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        target.putLong(HEADER_SIZE + slot * SLOT_SIZE, hash);
+        target.putLong(HEADER_SIZE + slot * SLOT_SIZE + 8, offset + 1);
+    }
+
+    private void writeHeader() {
+        writeHeader(index, capacity, count, logLength);
+    }
+
+    private static void writeHeader(MappedByteBuffer target, int targetCapacity, int targetCount, long targetLogLength) {
+        target.putInt(0, INDEX_MAGIC);
+        target.putInt(4, INDEX_VERSION);
+        target.putInt(8, targetCapacity);
+        target.putInt(12, targetCount);
+        target.putLong(16, targetLogLength);
+    }
+
+    // ===== 레코드 인코딩 =====
+
+    private static byte[] encodeRecord(byte type, byte[] key, byte[] value, long expiresAt) {
+        int length = RECORD_OVERHEAD + key.length + value.length;
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(RECORD_MAGIC);
+        buffer.putInt(length);
+        buffer.put(type);
+        buffer.putLong(expiresAt);
+        buffer.putShort((short) key.length);
+        buffer.put(key);
+        buffer.putInt(value.length);
+        buffer.put(value);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 8, length - 12);
+        buffer.putInt((int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * 오프셋의 레코드 읽기
+     *
+     * @return 범위를 벗어나거나 손상된 경우 null
+     */
+    private Record readRecord(long offset) throws IOException {
+        if (offset < 0 || offset + 8 > logLength) {
+            return null;
+        }
+        ByteBuffer head = ByteBuffer.allocate(8);
+        readFully(logChannel, head, offset);
+        int length = head.getInt(4);
+        if (head.getInt(0) != RECORD_MAGIC || length < RECORD_OVERHEAD || offset + length > logLength) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        readFully(logChannel, buffer, offset);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 8, length - 12);
+        if ((int) crc.getValue() != buffer.getInt(length - 4)) {
+            return null;
+        }
+        buffer.position(8);
+        byte type = buffer.get();
+        long expiresAt = buffer.getLong();
+        byte[] key = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(key);
+        byte[] value = new byte[buffer.getInt()];
+        buffer.get(value);
+        return new Record(type, expiresAt, key, value, length);
+    }
+
+    // ===== 키/해시 =====
+
+    private byte[] verdictKey(String loginId, String password) {
+        return AuthCacheCodec.verdictKey(secret, loginId, password);
+    }
+
+    private static int spread(long hash) {
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static int tableSizeFor(int requested) {
+        int size = 16;
+        while (size < requested) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("예상보다 짧은 로그");
+            }
+            position += read;
+        }
+    }
+
+    private static final class Record {
+
+        private final byte type;
+        private final long expiresAt;
+        private final byte[] key;
+        private final byte[] value;
+        private final int length;
+
+        private Record(byte type, long expiresAt, byte[] key, byte[] value, int length) {
+            this.type = type;
+            this.expiresAt = expiresAt;
+            this.key = key;
+            this.value = value;
+            this.length = length;
+        }
+    }
+}
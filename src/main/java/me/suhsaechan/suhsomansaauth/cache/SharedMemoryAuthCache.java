@@ -0,0 +1,398 @@
+package me.suhsaechan.suhsomansaauth.cache;
+
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.util.SomansaLogger;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * 같은 호스트의 여러 JVM 이 공유하는 인증 결과/사용자 이름 캐시
+ *
+ * 고정 크기 슬롯 배열을 메모리 맵 파일(shared-cache-v{형식 버전}.dat)에 두고 모든 프로세스가 같은 페이지를 매핑합니다.
+ * 형식이 바뀌면 파일 이름도 바뀌므로 이전 버전 프로세스가 매핑 중인 파일을 자르지 않습니다.
+ * 슬롯은 seqlock 으로 보호됩니다.
+ * - 쓰기: 버전을 짝수 → 홀수로 CAS 한 뒤 내용을 쓰고 다음 짝수로 올림 (CAS 실패 시 다른 슬롯 사용)
+ * - 읽기: 쓰기 전후 버전이 같고 짝수일 때만 값을 사용 (락 없음, 경합 시 캐시 미스로 처리)
+ * - 회수: 홀수 버전에는 쓰기 시작 시각이 들어 있어, 기록 도중 프로세스가 죽어 STALE_WRITE_MILLIS 넘게
+ *   홀수로 남은 슬롯은 다음 쓰기가 CAS 로 넘겨받음 (원래 쓰기는 해제 CAS 가 실패해 버전을 바꾸지 않음)
+ * - 검증: 넘겨받은 뒤 재개된 원래 쓰기가 버전 변화 없이 내용을 덮을 수 있으므로,
+ *   슬롯마다 다이제스트/종류/만료 시각/값의 CRC32 를 두고 일치할 때만 값을 사용
+ *
+ * 키 해시가 가리키는 위치부터 최대 PROBE_LIMIT 개 슬롯을 탐색하며,
+ * 빈 슬롯이 없으면 만료된 슬롯 → 가장 먼저 만료될 슬롯 순으로 덮어씁니다.
+ * HMAC 비밀키(shared-cache.key)도 같은 디렉토리에서 공유하므로 디렉토리 권한은 서비스 계정으로 제한해야 합니다.
+ */
+public class SharedMemoryAuthCache implements SomansaAuthCache {
+
+    private static final SomansaLogger logger = SomansaLogger.getLogger(SharedMemoryAuthCache.class);
+
+    private static final String DATA_FILE_PREFIX = "shared-cache-v";
+    private static final String DATA_FILE_SUFFIX = ".dat";
+    private static final String KEY_FILE = "shared-cache.key";
+
+    private static final byte TYPE_VERDICT = 1;
+    private static final byte TYPE_NAME = 2;
+
+    // 헤더: magic(4) version(4) slotCount(4) slotSize(4) reserved(48)
+    private static final int MAGIC = 0x534D5348;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = 64;
+
+    // 슬롯: version(8) digest(32) expiresAt(8) valueLen(4) type(1) reserved(3) crc(4) value
+    private static final int SLOT_SIZE = 512;
+    private static final int DIGEST_OFFSET = 8;
+    private static final int DIGEST_LENGTH = 32;
+    private static final int EXPIRES_OFFSET = 40;
+    private static final int LENGTH_OFFSET = 48;
+    private static final int TYPE_OFFSET = 52;
+    private static final int CRC_OFFSET = 56;
+    private static final int VALUE_OFFSET = 60;
+    private static final int MAX_VALUE_LENGTH = SLOT_SIZE - VALUE_OFFSET;
+
+    private static final int PROBE_LIMIT = 8;
+    private static final int READ_ATTEMPTS = 4;
+
+    // 쓰기 중(홀수) 상태가 이보다 오래되면 기록 도중 종료된 프로세스의 슬롯으로 보고 회수
+    private static final long STALE_WRITE_MILLIS = 10_000;
+
+    private static final VarHandle VERSION =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final long verdictTtlMillis;
+    private final long nameTtlMillis;
+    private final byte[] secret;
+    private final MappedByteBuffer buffer;
+    private final int slotMask;
+
+    private volatile boolean closed;
+
+    private SharedMemoryAuthCache(Path directory, Duration verdictTtl, Duration nameTtl, int slots) throws IOException {
+        this.verdictTtlMillis = verdictTtl.toMillis();
+        this.nameTtlMillis = nameTtl.toMillis();
+
+        Files.createDirectories(directory);
+        try (FileChannel channel = FileChannel.open(directory.resolve(dataFileName()), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            // 초기화는 파일 락으로 한 프로세스만 수행
+            this.secret = AuthCacheCodec.loadOrCreateSecret(directory.resolve(KEY_FILE));
+            int slotCount = initializeHeader(channel, tableSizeFor(slots));
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) slotCount * SLOT_SIZE);
+            this.slotMask = slotCount - 1;
+            logger.info("공유 인증 캐시 연결 완료 - 슬롯: " + slotCount);
+        }
+    }
+
+    /**
+     * 공유 캐시 열기 (없으면 생성)
+     * 이미 다른 프로세스가 만든 파일이 있으면 그 파일의 슬롯 수를 따르며,
+     * 형식이 맞지 않는 파일이면 IOException (엔진은 메모리 캐시로 대체)
+     *
+     * @param directory 공유 디렉토리 (같은 호스트의 모든 인스턴스가 같은 경로 사용)
+     * @param verdictTtl 인증 결과 유효 기간 (0 이면 인증 결과는 캐시하지 않음)
+     * @param nameTtl 사용자 이름 유효 기간
+     * @param slots 슬롯 수 (2의 거듭제곱으로 올림, 슬롯당 512바이트)
+     */
+    public static SharedMemoryAuthCache open(Path directory, Duration verdictTtl, Duration nameTtl, int slots)
+            throws IOException {
+        return new SharedMemoryAuthCache(directory, verdictTtl, nameTtl, slots);
+    }
+
+    @Override
+    public SomansaAuthResult getVerdict(String loginId, String password) {
+        if (verdictTtlMillis <= 0) {
+            return null;
+        }
+        byte[] value = get(TYPE_VERDICT, AuthCacheCodec.verdictKey(secret, loginId, password));
+        return value != null ? AuthCacheCodec.decodeVerdict(value) : null;
+    }
+
+    @Override
+    public void putVerdict(String loginId, String password, SomansaAuthResult result) {
+        if (verdictTtlMillis <= 0) {
+            return;
+        }
+        put(TYPE_VERDICT, AuthCacheCodec.verdictKey(secret, loginId, password),
+                AuthCacheCodec.encodeVerdict(result), verdictTtlMillis);
+    }
+
+    @Override
+    public String getUserName(String loginId) {
+        byte[] value = get(TYPE_NAME, AuthCacheCodec.nameKey(loginId));
+        return value != null ? AuthCacheCodec.decodeName(value) : null;
+    }
+
+    @Override
+    public void putUserName(String loginId, String userName) {
+        put(TYPE_NAME, AuthCacheCodec.nameKey(loginId), AuthCacheCodec.encodeName(userName), nameTtlMillis);
+    }
+
+    /**
+     * 매핑된 메모리만 읽고 쓰므로 호출 스레드에서 바로 처리합니다.
+     */
+    @Override
+    public boolean isBlocking() {
+        return false;
+    }
+
+    /**
+     * 공유 파일은 다른 프로세스가 계속 사용하므로 이 인스턴스의 조회/기록만 중단합니다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    // ===== 슬롯 조회/기록 =====
+
+    private byte[] get(byte type, byte[] key) {
+        if (closed) {
+            return null;
+        }
+        byte[] digest = digest(type, key);
+        long now = System.currentTimeMillis();
+        int start = startSlot(digest);
+        byte[] best = null;
+        long bestExpiresAt = 0;
+        for (int probe = 0; probe < PROBE_LIMIT; probe++) {
+            int offset = slotOffset((start + probe) & slotMask);
+            if ((long) VERSION.getAcquire(buffer, offset) == 0) {
+                break;
+            }
+            SlotSnapshot snapshot = readSlot(offset, digest);
+            if (snapshot != null && snapshot.type == type && snapshot.expiresAt >= now
+                    && snapshot.expiresAt > bestExpiresAt) {
+                best = snapshot.value;
+                bestExpiresAt = snapshot.expiresAt;
+            }
+        }
+        return best;
+    }
+
+    private void put(byte type, byte[] key, byte[] value, long ttlMillis) {
+        if (closed || value.length > MAX_VALUE_LENGTH) {
+            return;
+        }
+        byte[] digest = digest(type, key);
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttlMillis;
+        int start = startSlot(digest);
+
+        // 같은 키 → 빈 슬롯 → 만료된 슬롯 → 가장 먼저 만료될 슬롯 순으로 후보 선택
+        int target = -1;
+        long targetExpiresAt = Long.MAX_VALUE;
+        for (int probe = 0; probe < PROBE_LIMIT; probe++) {
+            int offset = slotOffset((start + probe) & slotMask);
+            long version = (long) VERSION.getAcquire(buffer, offset);
+            if (version == 0) {
+                // 앞에서 만료된 슬롯을 찾았으면 그 슬롯을 재사용
+                if (targetExpiresAt != Long.MIN_VALUE) {
+                    target = offset;
+                }
+                break;
+            }
+            if ((version & 1) != 0) {
+                // 기록 도중 중단된 슬롯은 만료된 슬롯처럼 재사용
+                if (isStaleWrite(version, now) && targetExpiresAt != Long.MIN_VALUE) {
+                    target = offset;
+                    targetExpiresAt = Long.MIN_VALUE;
+                }
+                continue;
+            }
+            if (matchesDigest(offset, digest)) {
+                target = offset;
+                break;
+            }
+            long slotExpiresAt = buffer.getLong(offset + EXPIRES_OFFSET);
+            if (slotExpiresAt < now) {
+                slotExpiresAt = Long.MIN_VALUE;
+            }
+            if (slotExpiresAt < targetExpiresAt) {
+                target = offset;
+                targetExpiresAt = slotExpiresAt;
+            }
+        }
+        if (target >= 0) {
+            writeSlot(target, digest, type, value, expiresAt);
+        }
+    }
+
+    /**
+     * 일관된 슬롯 내용 복사
+     *
+     * @return 다른 키이거나 경합으로 일관된 값을 읽지 못하면 null
+     */
+    private SlotSnapshot readSlot(int offset, byte[] digest) {
+        for (int attempt = 0; attempt < READ_ATTEMPTS; attempt++) {
+            long before = (long) VERSION.getAcquire(buffer, offset);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            boolean matches = matchesDigest(offset, digest);
+            long expiresAt = buffer.getLong(offset + EXPIRES_OFFSET);
+            int length = buffer.getInt(offset + LENGTH_OFFSET);
+            byte type = buffer.get(offset + TYPE_OFFSET);
+            int crc = buffer.getInt(offset + CRC_OFFSET);
+            byte[] value = null;
+            if (matches && length >= 0 && length <= MAX_VALUE_LENGTH) {
+                value = new byte[length];
+                buffer.get(offset + VALUE_OFFSET, value);
+            }
+            VarHandle.acquireFence();
+            if ((long) VERSION.getAcquire(buffer, offset) != before) {
+                continue;
+            }
+            if (value == null || crc != checksum(digest, type, expiresAt, value)) {
+                // 다른 키이거나, 넘겨받은 슬롯에 재개된 쓰기가 섞인 경우
+                return null;
+            }
+            return new SlotSnapshot(type, expiresAt, value);
+        }
+        return null;
+    }
+
+    /**
+     * 슬롯 기록 (다른 쓰기와 경합하면 포기, 오래된 쓰기 중 상태는 넘겨받음)
+     */
+    private void writeSlot(int offset, byte[] digest, byte type, byte[] value, long expiresAt) {
+        long now = System.currentTimeMillis();
+        long version = (long) VERSION.getAcquire(buffer, offset);
+        if ((version & 1) != 0 && !isStaleWrite(version, now)) {
+            return;
+        }
+        long writing = writingVersion(version, now);
+        if (!VERSION.compareAndSet(buffer, offset, version, writing)) {
+            return;
+        }
+        if ((version & 1) != 0) {
+            logger.warn("기록 도중 중단된 공유 캐시 슬롯 회수 - 오프셋: " + offset);
+        }
+        buffer.put(offset + DIGEST_OFFSET, digest);
+        buffer.putLong(offset + EXPIRES_OFFSET, expiresAt);
+        buffer.putInt(offset + LENGTH_OFFSET, value.length);
+        buffer.put(offset + TYPE_OFFSET, type);
+        buffer.putInt(offset + CRC_OFFSET, checksum(digest, type, expiresAt, value));
+        buffer.put(offset + VALUE_OFFSET, value);
+        // 오래 멈춘 사이 다른 프로세스가 슬롯을 넘겨받았으면 버전을 바꾸지 않음 (섞인 내용은 CRC 로 걸러짐)
+        VERSION.compareAndSet(buffer, offset, writing, writing + 1);
+    }
+
+    /**
+     * 쓰기 중 버전 = (쓰기 시작 시각 << 1) | 1
+     * 이전 버전보다 항상 크게 만들어, 읽기 전후 버전 비교가 넘겨받은 쓰기에서도 성립하도록 함
+     */
+    private static long writingVersion(long version, long now) {
+        long next = (version & 1) == 0 ? version + 1 : version + 2;
+        return Math.max((now << 1) | 1, next);
+    }
+
+    private static boolean isStaleWrite(long version, long now) {
+        return now - (version >>> 1) > STALE_WRITE_MILLIS;
+    }
+
+    private static int checksum(byte[] digest, byte type, long expiresAt, byte[] value) {
+        CRC32 crc = new CRC32();
+        crc.update(digest);
+        crc.update(type);
+        crc.update(ByteBuffer.allocate(Long.BYTES + Integer.BYTES).putLong(expiresAt).putInt(value.length).array());
+        crc.update(value);
+        return (int) crc.getValue();
+    }
+
+    private boolean matchesDigest(int offset, byte[] digest) {
+        byte[] stored = new byte[DIGEST_LENGTH];
+        buffer.get(offset + DIGEST_OFFSET, stored);
+        return Arrays.equals(stored, digest);
+    }
+
+    private int startSlot(byte[] digest) {
+        return ByteBuffer.wrap(digest).getInt() & slotMask;
+    }
+
+    private static int slotOffset(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    // ===== 초기화 =====
+
+    /**
+     * 헤더 확인 또는 새 파일 초기화
+     * 다른 프로세스가 매핑 중일 수 있으므로 형식이 맞지 않는 파일은 자르지 않고 열기를 거부합니다.
+     */
+    private static int initializeHeader(FileChannel channel, int requestedSlots) throws IOException {
+        if (channel.size() >= HEADER_SIZE) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+            header.flip();
+            int slotCount = header.getInt(8);
+            if (header.getInt(0) == MAGIC && header.getInt(4) == FORMAT_VERSION
+                    && header.getInt(12) == SLOT_SIZE && Integer.bitCount(slotCount) == 1
+                    && channel.size() >= HEADER_SIZE + (long) slotCount * SLOT_SIZE) {
+                return slotCount;
+            }
+            // magic 이 없으면 초기화 도중 중단된 파일 (헤더가 마지막에 기록되므로 매핑한 프로세스 없음)
+            if (header.getInt(0) != 0) {
+                throw new IOException("공유 인증 캐시 파일 형식 불일치 - 파일을 사용하는 프로세스를 모두 종료한 뒤 삭제하세요");
+            }
+        }
+        // 마지막 바이트를 써서 전체 길이를 먼저 확보 (슬롯은 0 으로 채워진 빈 상태) 한 뒤 헤더 기록
+        channel.write(ByteBuffer.allocate(1), HEADER_SIZE + (long) requestedSlots * SLOT_SIZE - 1);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(requestedSlots).putInt(SLOT_SIZE);
+        header.position(HEADER_SIZE).flip();
+        channel.write(header, 0);
+        channel.force(false);
+        return requestedSlots;
+    }
+
+    static String dataFileName() {
+        return DATA_FILE_PREFIX + FORMAT_VERSION + DATA_FILE_SUFFIX;
+    }
+
+    private static byte[] digest(byte type, byte[] key) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update(type);
+            return sha256.digest(key);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 생성 실패", e);
+        }
+    }
+
+    private static int tableSizeFor(int requested) {
+        int size = 16;
+        while (size < requested && size < (1 << 22)) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    private static final class SlotSnapshot {
+
+        private final byte type;
+        private final long expiresAt;
+        private final byte[] value;
+
+        private SlotSnapshot(byte type, long expiresAt, byte[] value) {
+            this.type = type;
+            this.expiresAt = expiresAt;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package me.suhsaechan.suhsomansaauth.cache;
+
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 인증 결과/사용자 이름 캐시 SPI
+ * SomansaAuthEngine 은 Mattermost/버스 시스템을 호출하기 전에 이 캐시를 먼저 조회합니다.
+ *
+ * 제공 구현:
+ * - InMemoryAuthCache : 프로세스 내 캐시 (기본값)
+ * - SharedMemoryAuthCache : 같은 호스트의 여러 JVM 이 공유하는 메모리 맵 파일
+ * - PersistentAuthStore : 재시작 후에도 유지되는 디스크 저장소
+ * - KeyValueAuthCache : Redis 등 외부 키-값 저장소 어댑터
+ *
+ * 구현체는 여러 스레드에서 동시에 호출되므로 스레드 안전해야 하며,
+ * 캐시 장애가 인증 실패로 이어지지 않도록 예외 대신 null(미스)을 반환해야 합니다.
+ * 비밀번호 원문을 키나 값으로 저장해서는 안 됩니다.
+ * 인증 결과 유효 기간이 0 이하면 인증 결과는 저장/조회하지 않고 사용자 이름만 캐시합니다.
+ */
+public interface SomansaAuthCache extends Closeable {
+
+    /**
+     * 캐시된 인증 결과 조회
+     *
+     * @return 유효한 결과가 없으면 null
+     */
+    SomansaAuthResult getVerdict(String loginId, String password);
+
+    /**
+     * 인증 결과 저장 (확정적인 결과만 전달됨)
+     */
+    void putVerdict(String loginId, String password, SomansaAuthResult result);
+
+    /**
+     * 캐시된 사용자 이름 조회
+     *
+     * @param loginId 버스 시스템 로그인 ID
+     * @return 유효한 이름이 없으면 null
+     */
+    String getUserName(String loginId);
+
+    /**
+     * 사용자 이름 저장
+     */
+    void putUserName(String loginId, String userName);
+
+    /**
+     * 조회/저장이 네트워크나 디스크 I/O 로 호출 스레드를 막을 수 있는지 여부
+     * true 면 엔진의 비동기 경로(리액티브 파사드 포함)는 호출 스레드 대신 캐시 전용 스레드에서 호출합니다.
+     */
+    default boolean isBlocking() {
+        return true;
+    }
+
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,77 @@
+package me.suhsaechan.suhsomansaauth.config;
+
+import me.suhsaechan.suhsomansaauth.cache.SomansaAuthCache;
+import me.suhsaechan.suhsomansaauth.provider.SomansaAuthProvider;
+import me.suhsaechan.suhsomansaauth.service.ReactiveSomansaAuthEngine;
+import me.suhsaechan.suhsomansaauth.service.SomansaAuthEngine;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * 소만사 인증 자동 설정
+ * 사용하는 애플리케이션이 직접 SomansaAuthEngine 빈을 등록하면 적용되지 않습니다.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(SomansaAuthProperties.class)
+@ImportRuntimeHints(SomansaAuthRuntimeHints.class)
+public class SomansaAuthAutoConfiguration {
+
+    /**
+     * 인증 엔진
+     * 호스트 애플리케이션에 OkHttpClient 빈이 하나 있으면 커넥션 풀과 디스패처를 공유합니다.
+     * SomansaAuthCache 빈(Redis 어댑터 등)이 있으면 somansa.auth.cache 설정 대신 그 캐시를 사용합니다.
+     * SomansaAuthProvider 빈이 있으면 somansa.auth.provider.mattermost-urls 대신 그 제공자들을 @Order 순서로 사용합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SomansaAuthEngine somansaAuthEngine(SomansaAuthProperties properties,
+                                               ObjectProvider<OkHttpClient> httpClient,
+                                               ObjectProvider<SomansaAuthCache> cache,
+                                               ObjectProvider<SomansaAuthProvider> providers) {
+        OkHttpClient sharedHttpClient = properties.getHttp().isShareClient()
+                ? httpClient.getIfUnique()
+                : null;
+        List<SomansaAuthProvider> authProviders = providers.orderedStream().toList();
+        return new SomansaAuthEngine(properties, sharedHttpClient, cache.getIfUnique(), authProviders);
+    }
+
+    /**
+     * 리액티브 파사드 (reactor-core 가 있을 때만)
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "reactor.core.publisher.Mono")
+    static class ReactiveConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ReactiveSomansaAuthEngine reactiveSomansaAuthEngine(SomansaAuthEngine somansaAuthEngine) {
+            return new ReactiveSomansaAuthEngine(somansaAuthEngine);
+        }
+    }
+
+    /**
+     * 외부 시스템 상태 health 컴포넌트 (Actuator 가 있고 somansa.auth.health.enabled=true 일 때만)
+     * 로드밸런서 준비 상태에 반영하려면 management.endpoint.health.group.readiness.include 에 somansaAuth 를 추가합니다.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.health.HealthIndicator")
+    @ConditionalOnProperty(prefix = "somansa.auth.health", name = "enabled", havingValue = "true")
+    static class HealthConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "somansaAuthHealthIndicator")
+        public SomansaAuthHealthIndicator somansaAuthHealthIndicator(SomansaAuthEngine somansaAuthEngine) {
+            return new SomansaAuthHealthIndicator(somansaAuthEngine);
+        }
+    }
+}
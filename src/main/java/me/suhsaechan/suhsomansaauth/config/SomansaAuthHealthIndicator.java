@@ -0,0 +1,68 @@
+package me.suhsaechan.suhsomansaauth.config;
+
+import me.suhsaechan.suhsomansaauth.service.SomansaAuthEngine;
+import me.suhsaechan.suhsomansaauth.service.UpstreamHealth;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 소만사 인증 외부 시스템 상태 (Actuator health 컴포넌트 이름: somansaAuth)
+ * 엔진이 백그라운드에서 확인해 둔 결과만 반환하므로 health 조회마다 외부 호출이 발생하지 않습니다.
+ *
+ * 인증 제공자가 하나라도 UP 이면 UP, 모두 DOWN 이면 DOWN, 그 외(확인 전)에는 UNKNOWN 입니다.
+ * 버스 시스템은 이름 조회에만 쓰이므로 상태에 반영하지 않고 상세 정보로만 보여줍니다.
+ */
+public class SomansaAuthHealthIndicator implements HealthIndicator {
+
+    private final SomansaAuthEngine engine;
+
+    public SomansaAuthHealthIndicator(SomansaAuthEngine engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public Health health() {
+        List<UpstreamHealth> upstreams = engine.getUpstreamHealth();
+        int providers = 0;
+        int up = 0;
+        int down = 0;
+        for (UpstreamHealth upstream : upstreams) {
+            if (upstream.getRole() == UpstreamHealth.Role.AUTH) {
+                providers++;
+                if (upstream.getStatus() == UpstreamHealth.Status.UP) {
+                    up++;
+                } else if (upstream.getStatus() == UpstreamHealth.Status.DOWN) {
+                    down++;
+                }
+            }
+        }
+
+        Status status = up > 0 ? Status.UP : providers > 0 && down == providers ? Status.DOWN : Status.UNKNOWN;
+        Health.Builder builder = new Health.Builder(status);
+        for (UpstreamHealth upstream : upstreams) {
+            builder.withDetail(upstream.getName(), details(upstream));
+        }
+        return builder.build();
+    }
+
+    private static Map<String, Object> details(UpstreamHealth upstream) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("status", upstream.getStatus().name());
+        details.put("role", upstream.getRole().name());
+        if (upstream.getCheckedAt() != null) {
+            details.put("lastLatencyMillis", upstream.getLastLatencyMillis());
+            details.put("averageLatencyMillis", upstream.getAverageLatencyMillis());
+            details.put("checkedAt", upstream.getCheckedAt().toString());
+        }
+        if (upstream.getConsecutiveFailures() > 0) {
+            details.put("consecutiveFailures", upstream.getConsecutiveFailures());
+            details.put("error", upstream.getLastError());
+        }
+        return details;
+    }
+}
@@ -0,0 +1,741 @@
+package me.suhsaechan.suhsomansaauth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 소만사 인증 엔진 설정 (somansa.auth.*)
+ */
+@ConfigurationProperties(prefix = "somansa.auth")
+public class SomansaAuthProperties {
+
+    // HTTP 클라이언트 등 구성요소를 첫 인증 요청 시점에 생성
+    private boolean lazyInit = true;
+
+    // HTTP 타임아웃 설정
+    private final Timeout timeout = new Timeout();
+
+    // HTTP 클라이언트 설정
+    private final Http http = new Http();
+
+    // 일시적 장애 재시도 설정
+    private final Retry retry = new Retry();
+
+    // 작업 등급별 수용 제어 설정
+    private final Admission admission = new Admission();
+
+    // 버스 시스템 세션 설정
+    private final Bus bus = new Bus();
+
+    // 일괄 이름 조회 설정
+    private final Bulk bulk = new Bulk();
+
+    // 인증 결과/이름 캐시 설정
+    private final Cache cache = new Cache();
+
+    // 인증 제공자 설정
+    private final Provider provider = new Provider();
+
+    // 외부 호출 녹화/재생 설정
+    private final Traffic traffic = new Traffic();
+
+    // 외부 시스템 상태 확인 설정
+    private final Health health = new Health();
+
+    public boolean isLazyInit() {
+        return lazyInit;
+    }
+
+    public void setLazyInit(boolean lazyInit) {
+        this.lazyInit = lazyInit;
+    }
+
+    public Timeout getTimeout() {
+        return timeout;
+    }
+
+    public Http getHttp() {
+        return http;
+    }
+
+    public Retry getRetry() {
+        return retry;
+    }
+
+    public Admission getAdmission() {
+        return admission;
+    }
+
+    public Bus getBus() {
+        return bus;
+    }
+
+    public Bulk getBulk() {
+        return bulk;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Provider getProvider() {
+        return provider;
+    }
+
+    public Traffic getTraffic() {
+        return traffic;
+    }
+
+    public Health getHealth() {
+        return health;
+    }
+
+    /**
+     * HTTP 타임아웃 설정
+     * 적응형 모드가 꺼져 있거나 샘플이 부족할 때는 고정 타임아웃만 사용합니다.
+     */
+    public static class Timeout {
+
+        private Duration connect = Duration.ofSeconds(10);
+        private Duration read = Duration.ofSeconds(30);
+        private Duration write = Duration.ofSeconds(30);
+
+        // 관측 지연시간 기반 적응형 타임아웃
+        private final Adaptive adaptive = new Adaptive();
+
+        public Duration getConnect() {
+            return connect;
+        }
+
+        public void setConnect(Duration connect) {
+            this.connect = connect;
+        }
+
+        public Duration getRead() {
+            return read;
+        }
+
+        public void setRead(Duration read) {
+            this.read = read;
+        }
+
+        public Duration getWrite() {
+            return write;
+        }
+
+        public void setWrite(Duration write) {
+            this.write = write;
+        }
+
+        public Adaptive getAdaptive() {
+            return adaptive;
+        }
+    }
+
+    /**
+     * 적응형 타임아웃 설정
+     * 호출 타임아웃 = clamp(엔드포인트별 지연시간 백분위수 × factor, min, max)
+     */
+    public static class Adaptive {
+
+        private boolean enabled = false;
+
+        // 기준 백분위수 (기본 p99.9)
+        private double percentile = 0.999;
+
+        // 백분위수에 곱할 배수
+        private double factor = 3.0;
+
+        // 타임아웃 하한
+        private Duration min = Duration.ofMillis(500);
+
+        // 타임아웃 상한 (샘플 부족 시에도 이 값을 사용)
+        private Duration max = Duration.ofSeconds(30);
+
+        // 적응형 타임아웃을 적용하기 위한 최소 샘플 수
+        private int minSamples = 100;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getPercentile() {
+            return percentile;
+        }
+
+        public void setPercentile(double percentile) {
+            this.percentile = percentile;
+        }
+
+        public double getFactor() {
+            return factor;
+        }
+
+        public void setFactor(double factor) {
+            this.factor = factor;
+        }
+
+        public Duration getMin() {
+            return min;
+        }
+
+        public void setMin(Duration min) {
+            this.min = min;
+        }
+
+        public Duration getMax() {
+            return max;
+        }
+
+        public void setMax(Duration max) {
+            this.max = max;
+        }
+
+        public int getMinSamples() {
+            return minSamples;
+        }
+
+        public void setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+        }
+    }
+
+    /**
+     * HTTP 클라이언트 설정
+     * 호스트 애플리케이션의 OkHttpClient 빈을 공유하면 아래 동시성 설정 대신 호스트 디스패처를 사용합니다.
+     * OkHttp 기본값(호스트당 5개)은 리액티브 경로의 처리량을 제한하므로 더 크게 잡습니다.
+     */
+    public static class Http {
+
+        // 호스트 애플리케이션의 OkHttpClient 빈이 있으면 newBuilder() 로 파생해 공유
+        private boolean shareClient = true;
+
+        // 전체 동시 비동기 요청 수
+        private int maxRequests = 128;
+
+        // 호스트당 동시 비동기 요청 수
+        private int maxRequestsPerHost = 32;
+
+        // brotli 압축 응답 요청 (Accept-Encoding: br, gzip), 끄면 OkHttp 기본 gzip 만 사용
+        private boolean brotli = true;
+
+        public boolean isShareClient() {
+            return shareClient;
+        }
+
+        public void setShareClient(boolean shareClient) {
+            this.shareClient = shareClient;
+        }
+
+        public int getMaxRequests() {
+            return maxRequests;
+        }
+
+        public void setMaxRequests(int maxRequests) {
+            this.maxRequests = maxRequests;
+        }
+
+        public int getMaxRequestsPerHost() {
+            return maxRequestsPerHost;
+        }
+
+        public void setMaxRequestsPerHost(int maxRequestsPerHost) {
+            this.maxRequestsPerHost = maxRequestsPerHost;
+        }
+
+        public boolean isBrotli() {
+            return brotli;
+        }
+
+        public void setBrotli(boolean brotli) {
+            this.brotli = brotli;
+        }
+    }
+
+    /**
+     * 일시적 장애 재시도 설정
+     * Mattermost 로그인은 연결 실패와 502/503/504 만, 버스 시스템 이름 조회는 모든 단계 실패를 재시도합니다.
+     * 재시도는 토큰 버킷 예산 안에서만 허용되므로 장애 시 외부 시스템 부하를 키우지 않습니다.
+     */
+    public static class Retry {
+
+        private boolean enabled = true;
+
+        // 최초 요청 포함 최대 시도 횟수
+        private int maxAttempts = 3;
+
+        // decorrelated jitter 백오프 하한/상한
+        private Duration baseDelay = Duration.ofMillis(100);
+        private Duration maxDelay = Duration.ofSeconds(2);
+
+        // 최초 요청 1건당 적립되는 재시도 토큰 (0.1 = 요청의 10%)
+        private double budgetRatio = 0.1;
+
+        // 재시도 토큰 최대 보유량 (시작 시 가득 찬 상태)
+        private int budgetMaxTokens = 10;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getBaseDelay() {
+            return baseDelay;
+        }
+
+        public void setBaseDelay(Duration baseDelay) {
+            this.baseDelay = baseDelay;
+        }
+
+        public Duration getMaxDelay() {
+            return maxDelay;
+        }
+
+        public void setMaxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+        }
+
+        public double getBudgetRatio() {
+            return budgetRatio;
+        }
+
+        public void setBudgetRatio(double budgetRatio) {
+            this.budgetRatio = budgetRatio;
+        }
+
+        public int getBudgetMaxTokens() {
+            return budgetMaxTokens;
+        }
+
+        public void setBudgetMaxTokens(int budgetMaxTokens) {
+            this.budgetMaxTokens = budgetMaxTokens;
+        }
+    }
+
+    /**
+     * 작업 등급별 수용 제어 설정
+     * 동시 실행 수를 넘는 작업은 등급별 대기열에서 기다리며, 전체 대기열이 가득 차면 낮은 등급부터 제거합니다.
+     */
+    public static class Admission {
+
+        private boolean enabled = true;
+
+        // 외부 시스템으로 동시에 나가는 작업 수 (Mattermost 인증 1건, 이름 조회 1건 단위)
+        private int maxConcurrent = 32;
+
+        // 전체 대기 작업 수 상한 (넘으면 낮은 등급의 대기 작업부터 제거)
+        private int maxQueued = 512;
+
+        // 사용자 인증
+        private final WorkClassLimits interactive = new WorkClassLimits(256, Duration.ofSeconds(3));
+
+        // 인증 결과 이름 보강 (기다리기보다 이름 없이 응답)
+        private final WorkClassLimits enrichment = new WorkClassLimits(128, Duration.ofSeconds(1));
+
+        // 일괄 이름 조회
+        private final WorkClassLimits batch = new WorkClassLimits(256, Duration.ofSeconds(60));
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public int getMaxQueued() {
+            return maxQueued;
+        }
+
+        public void setMaxQueued(int maxQueued) {
+            this.maxQueued = maxQueued;
+        }
+
+        public WorkClassLimits getInteractive() {
+            return interactive;
+        }
+
+        public WorkClassLimits getEnrichment() {
+            return enrichment;
+        }
+
+        public WorkClassLimits getBatch() {
+            return batch;
+        }
+    }
+
+    /**
+     * 작업 등급별 대기열 한도
+     */
+    public static class WorkClassLimits {
+
+        // 대기열 길이 상한
+        private int queueCapacity;
+
+        // 대기 시간 상한 (넘으면 제거)
+        private Duration maxQueueTime;
+
+        public WorkClassLimits(int queueCapacity, Duration maxQueueTime) {
+            this.queueCapacity = queueCapacity;
+            this.maxQueueTime = maxQueueTime;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getMaxQueueTime() {
+            return maxQueueTime;
+        }
+
+        public void setMaxQueueTime(Duration maxQueueTime) {
+            this.maxQueueTime = maxQueueTime;
+        }
+    }
+
+    /**
+     * 버스 시스템 세션 재사용 설정
+     */
+    public static class Bus {
+
+        // 재사용을 위해 보관할 유휴 세션 수
+        private int maxIdleSessions = 4;
+
+        // 유휴 세션 폐기 기준 (ASP.NET 기본 세션 만료 20분보다 짧게)
+        private Duration sessionIdleTimeout = Duration.ofMinutes(15);
+
+        public int getMaxIdleSessions() {
+            return maxIdleSessions;
+        }
+
+        public void setMaxIdleSessions(int maxIdleSessions) {
+            this.maxIdleSessions = maxIdleSessions;
+        }
+
+        public Duration getSessionIdleTimeout() {
+            return sessionIdleTimeout;
+        }
+
+        public void setSessionIdleTimeout(Duration sessionIdleTimeout) {
+            this.sessionIdleTimeout = sessionIdleTimeout;
+        }
+    }
+
+    /**
+     * 일괄 이름 조회 설정
+     */
+    public static class Bulk {
+
+        // 병렬 워커 수 (워커마다 독립된 버스 세션 사용)
+        private int parallelism = 4;
+
+        // 초당 조회 건수 상한 (모든 일괄 작업 합산, 0 이하이면 제한 없음)
+        private double requestsPerSecond = 2.0;
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public void setRequestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+        }
+    }
+
+    /**
+     * 인증 결과/이름 캐시 설정
+     * 확정적인 인증 결과(직원 확인 / 잘못된 인증 정보)와 조회된 이름만 저장합니다.
+     */
+    public static class Cache {
+
+        /**
+         * 캐시 구현 종류
+         */
+        public enum Type {
+            // 캐시 사용 안 함
+            NONE,
+            // 프로세스 내 캐시
+            MEMORY,
+            // 같은 호스트의 여러 JVM 이 공유하는 메모리 맵 파일
+            SHARED,
+            // 재시작 후에도 유지되는 디스크 저장소
+            PERSISTENT
+        }
+
+        private Type type = Type.MEMORY;
+
+        // 인증 결과 유효 기간 (기본 0: 인증 결과는 캐시하지 않음)
+        // 캐시하면 비밀번호 변경/계정 비활성화 후에도 유효 기간 동안 이전 결과로 인증됨
+        private Duration verdictTtl = Duration.ZERO;
+
+        // 사용자 이름 유효 기간
+        private Duration nameTtl = Duration.ofDays(7);
+
+        // 최대 항목 수 (MEMORY: 항목 수, SHARED/PERSISTENT: 초기 슬롯 수)
+        private int maxEntries = 4096;
+
+        // SHARED/PERSISTENT 저장 디렉토리
+        private String directory = System.getProperty("user.home") + "/.somansa-auth";
+
+        // PERSISTENT 주기적 압축 간격
+        private Duration compactionInterval = Duration.ofHours(1);
+
+        public Type getType() {
+            return type;
+        }
+
+        public void setType(Type type) {
+            this.type = type;
+        }
+
+        public Duration getVerdictTtl() {
+            return verdictTtl;
+        }
+
+        public void setVerdictTtl(Duration verdictTtl) {
+            this.verdictTtl = verdictTtl;
+        }
+
+        public Duration getNameTtl() {
+            return nameTtl;
+        }
+
+        public void setNameTtl(Duration nameTtl) {
+            this.nameTtl = nameTtl;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public Duration getCompactionInterval() {
+            return compactionInterval;
+        }
+
+        public void setCompactionInterval(Duration compactionInterval) {
+            this.compactionInterval = compactionInterval;
+        }
+    }
+
+    /**
+     * 인증 제공자 설정
+     * 제공자가 둘 이상이면 한 곳이라도 직원으로 확인되면 직원으로 판정합니다.
+     */
+    public static class Provider {
+
+        /**
+         * 제공자 조회 방식
+         */
+        public enum Mode {
+            // 순서대로 조회하고 직원으로 확인되면 중단
+            SEQUENTIAL,
+            // 동시에 조회하고 가장 먼저 직원으로 확인된 결과를 반환 (나머지 호출 취소)
+            FAN_OUT
+        }
+
+        private Mode mode = Mode.SEQUENTIAL;
+
+        // Mattermost 인스턴스 주소 (SomansaAuthProvider 를 직접 지정하면 사용하지 않음)
+        private List<String> mattermostUrls = new ArrayList<>(List.of("https://mattermost.somansa.com"));
+
+        public Mode getMode() {
+            return mode;
+        }
+
+        public void setMode(Mode mode) {
+            this.mode = mode;
+        }
+
+        public List<String> getMattermostUrls() {
+            return mattermostUrls;
+        }
+
+        public void setMattermostUrls(List<String> mattermostUrls) {
+            this.mattermostUrls = mattermostUrls;
+        }
+    }
+
+    /**
+     * 외부 호출 녹화/재생 설정 (성능 재현용)
+     * 녹화 파일에는 비밀번호, 인증 헤더, 쿠키 값이 제거되고 로그인 ID 가 마스킹되어 저장됩니다.
+     */
+    public static class Traffic {
+
+        /**
+         * 녹화/재생 모드
+         */
+        public enum Mode {
+            // 실제 호출만 수행
+            OFF,
+            // 실제 호출을 녹화 파일에 기록
+            RECORD,
+            // 실제 호출 대신 녹화 파일로 응답 (네트워크 사용 안 함)
+            REPLAY
+        }
+
+        private Mode mode = Mode.OFF;
+
+        // 녹화 파일 경로
+        private String file = System.getProperty("user.home") + "/.somansa-auth/traffic.rec";
+
+        // 호출당 본문 기록 상한 (바이트)
+        private int maxBodyBytes = 256 * 1024;
+
+        // 재생 배속 (1.0: 녹화 당시 지연시간, 0 이하: 지연 없음)
+        private double replaySpeed = 1.0;
+
+        // 녹화 소진 시 처음부터 다시 재생
+        private boolean replayLoop = true;
+
+        public Mode getMode() {
+            return mode;
+        }
+
+        public void setMode(Mode mode) {
+            this.mode = mode;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public void setFile(String file) {
+            this.file = file;
+        }
+
+        public int getMaxBodyBytes() {
+            return maxBodyBytes;
+        }
+
+        public void setMaxBodyBytes(int maxBodyBytes) {
+            this.maxBodyBytes = maxBodyBytes;
+        }
+
+        public double getReplaySpeed() {
+            return replaySpeed;
+        }
+
+        public void setReplaySpeed(double replaySpeed) {
+            this.replaySpeed = replaySpeed;
+        }
+
+        public boolean isReplayLoop() {
+            return replayLoop;
+        }
+
+        public void setReplayLoop(boolean replayLoop) {
+            this.replayLoop = replayLoop;
+        }
+    }
+
+    /**
+     * 외부 시스템 상태 확인 설정
+     * 인증 제공자와 버스 시스템을 백그라운드에서 주기적으로 확인하고 결과를 보관합니다.
+     * 상태 조회(Actuator health 등)는 보관된 결과만 반환하므로 조회마다 외부 호출이 발생하지 않습니다.
+     */
+    public static class Health {
+
+        private boolean enabled = false;
+
+        // 확인 간격
+        private Duration interval = Duration.ofSeconds(30);
+
+        // 확인 요청 1건의 전체 시간 상한
+        private Duration timeout = Duration.ofSeconds(5);
+
+        // 연속 실패 몇 번부터 DOWN 으로 판정할지
+        private int failureThreshold = 2;
+
+        // DOWN 으로 판정된 외부 시스템은 타임아웃을 기다리지 않고 바로 실패 처리
+        private boolean failFast = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public boolean isFailFast() {
+            return failFast;
+        }
+
+        public void setFailFast(boolean failFast) {
+            this.failFast = failFast;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package me.suhsaechan.suhsomansaauth.config;
+
+import me.suhsaechan.suhsomansaauth.dto.NameResolution;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * 네이티브 이미지(Spring AOT) 실행 힌트
+ *
+ * - OkHttp 쿠키 도메인 검사에 필요한 공개 접미사 목록 리소스
+ * - 설정 바인딩 대상 SomansaAuthProperties (중첩 클래스 포함)
+ * - 컨트롤러 응답 등으로 JSON 직렬화되는 결과 DTO
+ *
+ * 라이브러리 자체는 리플렉션을 사용하지 않으며, Spring 없이 사용할 때는
+ * META-INF/native-image 아래의 메타데이터가 같은 내용을 제공합니다.
+ */
+public class SomansaAuthRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final String PUBLIC_SUFFIX_RESOURCE = "okhttp3/internal/publicsuffix/publicsuffixes.gz";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern(PUBLIC_SUFFIX_RESOURCE);
+        hints.resources().registerPattern("okhttp3/internal/publicsuffix/NOTICE");
+
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                SomansaAuthProperties.class, SomansaAuthResult.class, NameResolution.class);
+    }
+}
@@ -0,0 +1,59 @@
+package me.suhsaechan.suhsomansaauth.dto;
+
+/**
+ * 로그인 ID → 사용자 이름 조회 결과 DTO (일괄 조회용)
+ */
+public class NameResolution {
+
+    // 조회한 로그인 ID
+    private final String loginId;
+
+    // 사용자 이름 (실패 시 null)
+    private final String userName;
+
+    // 실패 사유 (성공 시 null)
+    private final String errorMessage;
+
+    private NameResolution(String loginId, String userName, String errorMessage) {
+        this.loginId = loginId;
+        this.userName = userName;
+        this.errorMessage = errorMessage;
+    }
+
+    public String getLoginId() {
+        return loginId;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public boolean isResolved() {
+        return userName != null;
+    }
+
+    /**
+     * 성공 결과 생성
+     */
+    public static NameResolution resolved(String loginId, String userName) {
+        return new NameResolution(loginId, userName, null);
+    }
+
+    /**
+     * 실패 결과 생성
+     */
+    public static NameResolution failed(String loginId, String errorMessage) {
+        return new NameResolution(loginId, null, errorMessage);
+    }
+
+    @Override
+    public String toString() {
+        return isResolved()
+                ? "NameResolution{loginId=" + loginId + ", userName=" + userName + "}"
+                : "NameResolution{loginId=" + loginId + ", error=" + errorMessage + "}";
+    }
+}
@@ -1,123 +1,322 @@
 package me.suhsaechan.suhsomansaauth.dto;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
 /**
- * 소만사 인증 결과 DTO
+ * 소만사 인증 결과 (불변)
+ *
+ * 결과 종류는 Outcome 으로 구분하며, 메시지는 생성 시 한 번 만들어 둡니다.
+ * 요청 ID/사용자 이름 등 부가 정보가 없는 결과는 공유 상수 인스턴스를 사용하므로
+ * 생성 비용이 없고 캐시나 여러 스레드에서 그대로 공유해도 안전합니다.
  */
-public class SomansaAuthResult {
-    
-    // 소만사 직원 여부
-    private boolean isSomansaEmployee;
-    
-    // 인증 성공 여부
-    private boolean isAuthSuccess;
-    
-    // 응답 메시지
-    private String message;
-    
-    // 에러 ID (실패 시)
-    private String errorId;
-    
+public final class SomansaAuthResult {
+
+    private static final String SYSTEM_ERROR_ID = "SYSTEM_ERROR";
+
+    /**
+     * 인증 결과 종류
+     */
+    public enum Outcome {
+
+        // 정상 로그인 - 소만사 직원
+        EMPLOYEE(true, true, "소만사 직원입니다", null),
+
+        // MFA 단계 도달 - 소만사 직원
+        EMPLOYEE_MFA(true, true, "소만사 직원입니다 (MFA 단계)", null),
+
+        // 잘못된 인증 정보 - 소만사 직원 아님
+        NOT_EMPLOYEE(false, true, "소만사 직원이 아닙니다", "api.user.login.invalid_credentials_email_username"),
+
+        // 로그인 ID/비밀번호 누락 등 입력값 오류 (요청 전송 안 함)
+        INVALID_INPUT(false, false, "입력값이 올바르지 않습니다", SYSTEM_ERROR_ID),
+
+        // 네트워크 오류, 예상치 못한 응답 등 외부 시스템 오류
+        UPSTREAM_ERROR(false, false, "인증 중 오류가 발생했습니다", SYSTEM_ERROR_ID),
+
+        // 과부하로 요청을 수용하지 못함
+        RATE_LIMITED(false, false, "요청이 많아 인증을 처리하지 못했습니다. 잠시 후 다시 시도해주세요",
+                "somansa.auth.overloaded");
+
+        private final boolean employee;
+        private final boolean decisive;
+        private final String message;
+        private final String errorId;
+
+        Outcome(boolean employee, boolean decisive, String message, String errorId) {
+            this.employee = employee;
+            this.decisive = decisive;
+            this.message = message;
+            this.errorId = errorId;
+        }
+
+        /**
+         * 소만사 직원 확인 여부
+         */
+        public boolean isEmployee() {
+            return employee;
+        }
+
+        /**
+         * 외부 시스템이 확정한 결과 여부 (캐시 가능)
+         * 입력값 오류, 외부 시스템 오류, 과부하는 다시 시도하면 달라질 수 있습니다.
+         */
+        public boolean isDecisive() {
+            return decisive;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public String getErrorId() {
+            return errorId;
+        }
+    }
+
+    // 부가 정보 없는 결과 (공유 상수)
+    public static final SomansaAuthResult EMPLOYEE = new SomansaAuthResult(Outcome.EMPLOYEE);
+    public static final SomansaAuthResult EMPLOYEE_MFA = new SomansaAuthResult(Outcome.EMPLOYEE_MFA);
+    public static final SomansaAuthResult NOT_EMPLOYEE = new SomansaAuthResult(Outcome.NOT_EMPLOYEE);
+    public static final SomansaAuthResult UPSTREAM_ERROR = new SomansaAuthResult(Outcome.UPSTREAM_ERROR);
+    public static final SomansaAuthResult RATE_LIMITED = new SomansaAuthResult(Outcome.RATE_LIMITED);
+    public static final SomansaAuthResult MISSING_LOGIN_ID =
+            new SomansaAuthResult(Outcome.INVALID_INPUT, "로그인 ID가 필요합니다", null, null, null, null);
+    public static final SomansaAuthResult MISSING_PASSWORD =
+            new SomansaAuthResult(Outcome.INVALID_INPUT, "비밀번호가 필요합니다", null, null, null, null);
+
+    private static final Map<Outcome, SomansaAuthResult> CONSTANTS = new EnumMap<>(Outcome.class);
+
+    static {
+        CONSTANTS.put(Outcome.EMPLOYEE, EMPLOYEE);
+        CONSTANTS.put(Outcome.EMPLOYEE_MFA, EMPLOYEE_MFA);
+        CONSTANTS.put(Outcome.NOT_EMPLOYEE, NOT_EMPLOYEE);
+        CONSTANTS.put(Outcome.INVALID_INPUT, new SomansaAuthResult(Outcome.INVALID_INPUT));
+        CONSTANTS.put(Outcome.UPSTREAM_ERROR, UPSTREAM_ERROR);
+        CONSTANTS.put(Outcome.RATE_LIMITED, RATE_LIMITED);
+    }
+
+    // 결과 종류
+    private final Outcome outcome;
+
+    // 부가 설명 (입력값 오류 사유, 외부 시스템 오류 원인 등)
+    private final String detail;
+
+    // 에러 ID (null 이면 결과 종류의 기본값)
+    private final String errorId;
+
     // 요청 ID
-    private String requestId;
-    
+    private final String requestId;
+
     // 사용자 이름
-    private String userName;
-    
-    public SomansaAuthResult() {}
-    
-    public SomansaAuthResult(boolean isSomansaEmployee, boolean isAuthSuccess, String message, String errorId, String requestId) {
-        this.isSomansaEmployee = isSomansaEmployee;
-        this.isAuthSuccess = isAuthSuccess;
-        this.message = message;
-        this.errorId = errorId;
-        this.requestId = requestId;
-        this.userName = null;
+    private final String userName;
+
+    // 호환용 생성자로 지정한 메시지
+    private final String explicitMessage;
+
+    // 응답 메시지 (생성 시 확정, 스레드 간 공유 시에도 항상 채워진 값이 보이도록 final)
+    private final String message;
+
+    private SomansaAuthResult(Outcome outcome) {
+        this(outcome, null, null, null, null, null);
     }
-    
-    public SomansaAuthResult(boolean isSomansaEmployee, boolean isAuthSuccess, String message, String errorId, String requestId, String userName) {
-        this.isSomansaEmployee = isSomansaEmployee;
-        this.isAuthSuccess = isAuthSuccess;
-        this.message = message;
+
+    private SomansaAuthResult(Outcome outcome, String detail, String errorId, String requestId, String userName,
+                              String explicitMessage) {
+        this.outcome = Objects.requireNonNull(outcome, "outcome");
+        this.detail = detail;
         this.errorId = errorId;
         this.requestId = requestId;
         this.userName = userName;
+        this.explicitMessage = explicitMessage;
+        this.message = explicitMessage != null ? explicitMessage : deriveMessage();
+    }
+
+    /**
+     * 호환용 생성자 - 결과 종류는 직원 여부와 에러 ID 로 추정합니다.
+     *
+     * @deprecated {@link #of(Outcome)} 또는 공유 상수를 사용하세요.
+     */
+    @Deprecated
+    public SomansaAuthResult(boolean isSomansaEmployee, boolean isAuthSuccess, String message, String errorId, String requestId) {
+        this(isSomansaEmployee, isAuthSuccess, message, errorId, requestId, null);
+    }
+
+    /**
+     * 호환용 생성자 - 결과 종류는 직원 여부와 에러 ID 로 추정합니다.
+     *
+     * @deprecated {@link #of(Outcome)} 와 {@link #withUserName(String)} 을 사용하세요.
+     */
+    @Deprecated
+    public SomansaAuthResult(boolean isSomansaEmployee, boolean isAuthSuccess, String message, String errorId, String requestId, String userName) {
+        this(inferOutcome(isSomansaEmployee, errorId), null, errorId, requestId, userName, message);
     }
-    
-    // Getter 메소드들
+
+    /**
+     * 부가 정보 없는 결과 (공유 상수)
+     */
+    public static SomansaAuthResult of(Outcome outcome) {
+        return CONSTANTS.get(outcome);
+    }
+
+    /**
+     * 요청 ID 를 포함한 결과 (요청 ID 가 없으면 공유 상수)
+     */
+    public static SomansaAuthResult of(Outcome outcome, String requestId) {
+        if (requestId == null) {
+            return of(outcome);
+        }
+        return new SomansaAuthResult(outcome, null, null, requestId, null, null);
+    }
+
+    /**
+     * 외부 시스템 오류 결과 (메시지: "인증 중 오류가 발생했습니다: " + 원인)
+     */
+    public static SomansaAuthResult upstreamError(String cause) {
+        if (cause == null) {
+            return UPSTREAM_ERROR;
+        }
+        return new SomansaAuthResult(Outcome.UPSTREAM_ERROR, cause, null, null, null, null);
+    }
+
+    /**
+     * 사용자 이름을 반영한 결과 (메시지에 이름이 덧붙음)
+     */
+    public SomansaAuthResult withUserName(String userName) {
+        if (userName == null || userName.equals(this.userName)) {
+            return this;
+        }
+        // 호환용 생성자로 지정한 메시지에는 기존처럼 이름을 덧붙임
+        String namedMessage = explicitMessage != null ? explicitMessage + nameSuffix(userName) : null;
+        return new SomansaAuthResult(outcome, detail, errorId, requestId, userName, namedMessage);
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    // 호환용 Getter 메소드들
     public boolean isSomansaEmployee() {
-        return isSomansaEmployee;
+        return outcome.isEmployee();
     }
-    
+
     public boolean isAuthSuccess() {
-        return isAuthSuccess;
+        return outcome.isEmployee();
     }
-    
+
     public String getMessage() {
         return message;
     }
-    
+
     public String getErrorId() {
-        return errorId;
+        return errorId != null ? errorId : outcome.getErrorId();
     }
-    
+
     public String getRequestId() {
         return requestId;
     }
-    
+
     public String getUserName() {
         return userName;
     }
-    
-    // Setter 메소드들
-    public void setSomansaEmployee(boolean somansaEmployee) {
-        isSomansaEmployee = somansaEmployee;
+
+    private String deriveMessage() {
+        String base;
+        if (detail == null) {
+            base = outcome.getMessage();
+        } else if (outcome == Outcome.INVALID_INPUT) {
+            base = detail;
+        } else {
+            base = outcome.getMessage() + ": " + detail;
+        }
+        return userName != null ? base + nameSuffix(userName) : base;
     }
-    
-    public void setAuthSuccess(boolean authSuccess) {
-        isAuthSuccess = authSuccess;
+
+    private static String nameSuffix(String userName) {
+        return " (이름: " + userName + ")";
     }
-    
-    public void setMessage(String message) {
-        this.message = message;
+
+    private static Outcome inferOutcome(boolean isSomansaEmployee, String errorId) {
+        if (isSomansaEmployee) {
+            return Outcome.EMPLOYEE;
+        }
+        if (SYSTEM_ERROR_ID.equals(errorId)) {
+            return Outcome.UPSTREAM_ERROR;
+        }
+        if (Outcome.RATE_LIMITED.getErrorId().equals(errorId)) {
+            return Outcome.RATE_LIMITED;
+        }
+        return Outcome.NOT_EMPLOYEE;
     }
-    
-    public void setErrorId(String errorId) {
-        this.errorId = errorId;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SomansaAuthResult)) {
+            return false;
+        }
+        SomansaAuthResult that = (SomansaAuthResult) o;
+        return outcome == that.outcome
+                && Objects.equals(getMessage(), that.getMessage())
+                && Objects.equals(getErrorId(), that.getErrorId())
+                && Objects.equals(requestId, that.requestId)
+                && Objects.equals(userName, that.userName);
     }
-    
-    public void setRequestId(String requestId) {
-        this.requestId = requestId;
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(outcome, getMessage(), getErrorId(), requestId, userName);
     }
-    
-    public void setUserName(String userName) {
-        this.userName = userName;
+
+    @Override
+    public String toString() {
+        return "SomansaAuthResult{outcome=" + outcome
+                + ", message=" + getMessage()
+                + (requestId != null ? ", requestId=" + requestId : "")
+                + (userName != null ? ", userName=" + userName : "")
+                + '}';
     }
-    
+
     /**
      * 성공 결과 생성
+     *
+     * @deprecated {@link #EMPLOYEE} / {@link #of(Outcome, String)} 를 사용하세요.
      */
+    @Deprecated
     public static SomansaAuthResult success(String message, String requestId) {
-        return new SomansaAuthResult(true, true, message, null, requestId);
+        return new SomansaAuthResult(Outcome.EMPLOYEE, null, null, requestId, null, message);
     }
-    
+
     /**
      * 성공 결과 생성 (사용자 이름 포함)
+     *
+     * @deprecated {@link #withUserName(String)} 을 사용하세요.
      */
+    @Deprecated
     public static SomansaAuthResult success(String message, String requestId, String userName) {
-        return new SomansaAuthResult(true, true, message, null, requestId, userName);
+        return new SomansaAuthResult(Outcome.EMPLOYEE, null, null, requestId, userName, message);
     }
-    
+
     /**
      * 실패 결과 생성 (소만사 직원 아님)
+     *
+     * @deprecated {@link #NOT_EMPLOYEE} / {@link #of(Outcome, String)} 를 사용하세요.
      */
+    @Deprecated
     public static SomansaAuthResult failure(String message, String errorId, String requestId) {
-        return new SomansaAuthResult(false, false, message, errorId, requestId);
+        return new SomansaAuthResult(inferOutcome(false, errorId), null, errorId, requestId, null, message);
     }
-    
+
     /**
      * 예외 결과 생성
+     *
+     * @deprecated {@link #upstreamError(String)} 을 사용하세요.
      */
+    @Deprecated
     public static SomansaAuthResult exception(String message) {
-        return new SomansaAuthResult(false, false, message, "SYSTEM_ERROR", null);
+        return new SomansaAuthResult(Outcome.UPSTREAM_ERROR, null, null, null, null, message);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,156 @@
+package me.suhsaechan.suhsomansaauth.provider;
+
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult.Outcome;
+import me.suhsaechan.suhsomansaauth.service.SomansaEndpoint;
+import me.suhsaechan.suhsomansaauth.util.JsonUtil;
+import me.suhsaechan.suhsomansaauth.util.SomansaLogger;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+
+/**
+ * Mattermost 로그인 API 인증 제공자
+ * MFA 단계 도달(401 + MFA 에러 ID)도 직원으로 판정합니다.
+ */
+public class MattermostAuthProvider implements SomansaAuthProvider {
+
+    private static final SomansaLogger logger = SomansaLogger.getLogger(MattermostAuthProvider.class);
+
+    public static final String DEFAULT_URL = "https://mattermost.somansa.com";
+
+    private static final String MFA_ERROR_ID = "mfa.validate_token.authenticate.app_error";
+    private static final String INVALID_CREDENTIALS_ID = "api.user.login.invalid_credentials_email_username";
+
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    // Mattermost 주소 (끝의 / 제외)
+    private final String baseUrl;
+
+    private final String loginUrl;
+
+    private final String pingUrl;
+
+    public MattermostAuthProvider() {
+        this(DEFAULT_URL);
+    }
+
+    /**
+     * @param baseUrl Mattermost 주소 (예: https://mattermost.somansa.com)
+     */
+    public MattermostAuthProvider(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.loginUrl = this.baseUrl + "/api/v4/users/login";
+        this.pingUrl = this.baseUrl + "/api/v4/system/ping";
+    }
+
+    @Override
+    public String getName() {
+        return "Mattermost(" + baseUrl + ")";
+    }
+
+    @Override
+    public SomansaEndpoint getEndpoint() {
+        return SomansaEndpoint.MATTERMOST_LOGIN;
+    }
+
+    @Override
+    public Request createLoginRequest(String loginId, String password) {
+        RequestBody body = RequestBody.create(createLoginPayload(loginId, password), JSON);
+
+        return new Request.Builder()
+                .url(loginUrl)
+                .post(body)
+                .addHeader("Accept", "*/*")
+                .addHeader("Accept-Language", "ko")
+                .addHeader("Cache-Control", "no-cache")
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Origin", baseUrl)
+                .addHeader("Pragma", "no-cache")
+                .addHeader("Sec-Fetch-Dest", "empty")
+                .addHeader("Sec-Fetch-Mode", "cors")
+                .addHeader("Sec-Fetch-Site", "same-origin")
+                .addHeader("User-Agent", "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/138.0.0.0 Safari/537.36")
+                .addHeader("X-Requested-With", "XMLHttpRequest")
+                .build();
+    }
+
+    /**
+     * 상태 확인 요청 (인증 없이 호출 가능한 system/ping API)
+     */
+    @Override
+    public Request createHealthCheckRequest() {
+        return new Request.Builder()
+                .url(pingUrl)
+                .addHeader("Accept", "application/json")
+                .build();
+    }
+
+    /**
+     * 로그인 페이로드 생성
+     */
+    private String createLoginPayload(String loginId, String password) {
+        return String.format(
+            "{\"login_id\":\"%s\",\"password\":\"%s\",\"token\":\"\",\"deviceId\":\"\"}",
+            JsonUtil.escapeJson(loginId),
+            JsonUtil.escapeJson(password)
+        );
+    }
+
+    @Override
+    public SomansaAuthResult classify(int statusCode, String responseBody) {
+        if (statusCode == 401) {
+            return handleUnauthorizedResponse(responseBody);
+        } else if (statusCode == 200) {
+            logger.info("정상 로그인 성공 - 소만사 직원 확인됨");
+            return SomansaAuthResult.of(Outcome.EMPLOYEE, extractString(responseBody, "request_id"));
+        } else {
+            logger.warn("예상치 못한 응답 코드: " + statusCode);
+            return SomansaAuthResult.upstreamError("예상치 못한 응답 코드 " + statusCode);
+        }
+    }
+
+    /**
+     * 401 Unauthorized 응답 처리
+     */
+    private SomansaAuthResult handleUnauthorizedResponse(String responseBody) {
+        if (responseBody.contains(MFA_ERROR_ID)) {
+            logger.info("MFA 인증 단계 도달 - 소만사 직원 확인됨");
+            return SomansaAuthResult.of(Outcome.EMPLOYEE_MFA, extractString(responseBody, "request_id"));
+        } else if (responseBody.contains(INVALID_CREDENTIALS_ID)) {
+            logger.info("잘못된 인증 정보 - 소만사 직원 아님");
+            return SomansaAuthResult.of(Outcome.NOT_EMPLOYEE, extractString(responseBody, "request_id"));
+        } else {
+            logger.warn("알 수 없는 401 응답: " + responseBody);
+            return SomansaAuthResult.upstreamError("알 수 없는 인증 응답");
+        }
+    }
+
+    /**
+     * 정상 로그인 응답(사용자 객체)의 성 + 이름
+     * MFA 단계 응답에는 사용자 정보가 없으므로 null
+     */
+    @Override
+    public String extractUserName(String responseBody) {
+        String lastName = extractString(responseBody, "last_name");
+        String firstName = extractString(responseBody, "first_name");
+        String userName = (lastName != null ? lastName : "") + (firstName != null ? firstName : "");
+        return userName.trim().isEmpty() ? null : userName.trim();
+    }
+
+    /**
+     * 응답에서 문자열 필드 추출
+     */
+    private static String extractString(String responseBody, String field) {
+        String prefix = "\"" + field + "\":\"";
+        int startIndex = responseBody.indexOf(prefix);
+        if (startIndex != -1) {
+            startIndex += prefix.length();
+            int endIndex = responseBody.indexOf("\"", startIndex);
+            if (endIndex != -1) {
+                return responseBody.substring(startIndex, endIndex);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,64 @@
+package me.suhsaechan.suhsomansaauth.provider;
+
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.service.SomansaEndpoint;
+import okhttp3.Request;
+
+/**
+ * 직원 인증 제공자 SPI
+ * 로그인 요청 생성, 응답 분류, 이름 추출을 제공자별로 구현합니다.
+ * HTTP 호출, 타임아웃, 재시도, 수용 제어, 캐시는 SomansaAuthEngine 이 담당합니다.
+ *
+ * 제공 구현:
+ * - MattermostAuthProvider : Mattermost 로그인 API (기본값)
+ *
+ * 구현체는 여러 스레드에서 동시에 호출되므로 스레드 안전해야 합니다.
+ */
+public interface SomansaAuthProvider {
+
+    /**
+     * 로그용 제공자 이름
+     */
+    String getName();
+
+    /**
+     * 지연시간/재시도 통계 집계 단위
+     * 로그인 엔드포인트는 요청이 서버에 도달하지 않은 연결 실패만 재시도합니다.
+     */
+    default SomansaEndpoint getEndpoint() {
+        return SomansaEndpoint.PROVIDER_LOGIN;
+    }
+
+    /**
+     * 로그인 요청 생성
+     *
+     * @param loginId 앞뒤 공백을 제거한 로그인 ID
+     */
+    Request createLoginRequest(String loginId, String password);
+
+    /**
+     * 응답 분류
+     * 직원 확인은 EMPLOYEE/EMPLOYEE_MFA, 잘못된 인증 정보는 NOT_EMPLOYEE,
+     * 판단할 수 없는 응답은 UPSTREAM_ERROR 로 반환합니다.
+     */
+    SomansaAuthResult classify(int statusCode, String responseBody);
+
+    /**
+     * 직원으로 확인된 응답에서 사용자 이름 추출
+     *
+     * @return 응답에 이름이 없으면 null (버스 시스템에서 조회)
+     */
+    default String extractUserName(String responseBody) {
+        return null;
+    }
+
+    /**
+     * 상태 확인 요청 생성 (somansa.auth.health 활성화 시 주기적으로 호출)
+     * 인증 정보 없이 서버 응답 여부만 확인하는 가벼운 요청이어야 하며, 5xx 가 아닌 응답은 정상으로 봅니다.
+     *
+     * @return 상태 확인을 지원하지 않으면 null (항상 호출 대상)
+     */
+    default Request createHealthCheckRequest() {
+        return null;
+    }
+}
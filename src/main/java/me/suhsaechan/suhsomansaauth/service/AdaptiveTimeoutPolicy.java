@@ -0,0 +1,59 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthProperties;
+import me.suhsaechan.suhsomansaauth.util.LatencyHistogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 관측 지연시간 기반 타임아웃 정책
+ * 호출 타임아웃 = clamp(pXX × factor, min, max)
+ */
+public class AdaptiveTimeoutPolicy {
+
+    private final SomansaAuthProperties.Adaptive config;
+    private final Map<SomansaEndpoint, LatencyHistogram> histograms = new EnumMap<>(SomansaEndpoint.class);
+
+    public AdaptiveTimeoutPolicy(SomansaAuthProperties.Adaptive config) {
+        this.config = config;
+        for (SomansaEndpoint endpoint : SomansaEndpoint.values()) {
+            histograms.put(endpoint, new LatencyHistogram());
+        }
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 호출 완료(또는 타임아웃) 지연시간 기록
+     */
+    public void record(SomansaEndpoint endpoint, long latencyMillis) {
+        histograms.get(endpoint).record(latencyMillis);
+    }
+
+    /**
+     * 현재 적용할 호출 타임아웃 (ms)
+     * 샘플이 부족하면 상한값을 그대로 사용합니다.
+     */
+    public long currentTimeoutMillis(SomansaEndpoint endpoint) {
+        long min = config.getMin().toMillis();
+        long max = Math.max(min, config.getMax().toMillis());
+
+        LatencyHistogram histogram = histograms.get(endpoint);
+        if (histogram.count() < config.getMinSamples()) {
+            return max;
+        }
+        long observed = histogram.percentile(config.getPercentile());
+        long derived = (long) Math.ceil(observed * config.getFactor());
+        return Math.min(max, Math.max(min, derived));
+    }
+
+    /**
+     * 엔드포인트별 관측 백분위수 (ms), 샘플이 없으면 -1
+     */
+    public long observedPercentileMillis(SomansaEndpoint endpoint) {
+        return histograms.get(endpoint).percentile(config.getPercentile());
+    }
+}
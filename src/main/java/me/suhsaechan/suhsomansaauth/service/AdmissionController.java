@@ -0,0 +1,247 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthProperties;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 작업 등급별 수용 제어
+ *
+ * 동시 실행 수(maxConcurrent)를 넘는 작업은 등급별 대기열에서 기다리며, 자리가 나면 높은 등급부터 실행합니다.
+ * - 등급별 대기열이 가득 차면 새 작업을 거절합니다.
+ * - 전체 대기 작업 수가 상한에 이르면 더 낮은 등급의 대기 작업을 제거해 자리를 만들고, 없으면 거절합니다.
+ * - 등급별 대기 시간 상한을 넘긴 작업은 제거합니다.
+ * 제거된 작업은 호출 측에서 대체 응답(이름 없는 인증 결과 등)으로 처리합니다.
+ */
+class AdmissionController {
+
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Map<WorkClass, SomansaAuthProperties.WorkClassLimits> limits = new EnumMap<>(WorkClass.class);
+    private final Map<WorkClass, ArrayDeque<Ticket>> queues = new EnumMap<>(WorkClass.class);
+    private final AdmissionStats stats;
+
+    private int running;
+    private int queued;
+
+    AdmissionController(SomansaAuthProperties.Admission config, AdmissionStats stats) {
+        this.maxConcurrent = config.isEnabled() ? Math.max(1, config.getMaxConcurrent()) : Integer.MAX_VALUE;
+        this.maxQueued = Math.max(1, config.getMaxQueued());
+        this.limits.put(WorkClass.INTERACTIVE, config.getInteractive());
+        this.limits.put(WorkClass.ENRICHMENT, config.getEnrichment());
+        this.limits.put(WorkClass.BATCH, config.getBatch());
+        for (WorkClass workClass : WorkClass.values()) {
+            queues.put(workClass, new ArrayDeque<>());
+        }
+        this.stats = stats;
+    }
+
+    /**
+     * 실행 허가 대기 (동기)
+     *
+     * @return 허가된 티켓 (작업 종료 시 close), 제거되었으면 null
+     */
+    Ticket acquire(WorkClass workClass) throws InterruptedException {
+        CompletableFuture<Boolean> granted = new CompletableFuture<>();
+        Ticket ticket = acquireAsync(workClass, admitted -> granted.complete(true), () -> granted.complete(false));
+        try {
+            return granted.get() ? ticket : null;
+        } catch (InterruptedException e) {
+            ticket.close();
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 실행 허가 요청 (비동기)
+     * 콜백은 허가/제거를 결정한 스레드에서 실행되므로 오래 걸리는 작업을 하면 안 됩니다.
+     *
+     * @param onAdmitted 실행 허가 시 티켓과 함께 호출 (작업 종료 시 티켓을 close 해야 함)
+     * @param onDropped 대기열에서 제거되었을 때 호출
+     * @return 티켓 (허가 전 close 하면 대기 취소)
+     */
+    Ticket acquireAsync(WorkClass workClass, Consumer<Ticket> onAdmitted, Runnable onDropped) {
+        Ticket ticket = new Ticket(workClass, onAdmitted, onDropped);
+        Ticket shedTicket = null;
+        boolean admitted = false;
+        boolean rejected = false;
+
+        synchronized (this) {
+            if (running < maxConcurrent) {
+                running++;
+                ticket.state = TicketState.ADMITTED;
+                admitted = true;
+            } else {
+                ArrayDeque<Ticket> queue = queues.get(workClass);
+                if (queue.size() < limits.get(workClass).getQueueCapacity() && queued >= maxQueued) {
+                    shedTicket = shedLowerThan(workClass);
+                }
+                if (queue.size() < limits.get(workClass).getQueueCapacity() && queued < maxQueued) {
+                    queue.addLast(ticket);
+                    queued++;
+                    stats.recordQueued(workClass);
+                } else {
+                    ticket.state = TicketState.DROPPED;
+                    rejected = true;
+                }
+            }
+        }
+
+        if (shedTicket != null) {
+            stats.recordShed(shedTicket.workClass);
+            shedTicket.onDropped.run();
+        }
+        if (admitted) {
+            stats.recordAdmitted(workClass);
+            onAdmitted.accept(ticket);
+        } else if (rejected) {
+            stats.recordRejected(workClass);
+            onDropped.run();
+        } else {
+            long maxQueueMillis = limits.get(workClass).getMaxQueueTime().toMillis();
+            ExpiryTimer.INSTANCE.schedule(() -> expire(ticket), maxQueueMillis, TimeUnit.MILLISECONDS);
+        }
+        return ticket;
+    }
+
+    /**
+     * 현재 대기 중인 작업 수
+     */
+    synchronized int queueLength(WorkClass workClass) {
+        return queues.get(workClass).size();
+    }
+
+    synchronized int running() {
+        return running;
+    }
+
+    /**
+     * 주어진 등급보다 낮은 등급 중 가장 낮은 등급의 가장 최근 대기 작업 제거 (오래 기다린 작업은 유지)
+     */
+    private Ticket shedLowerThan(WorkClass workClass) {
+        WorkClass[] classes = WorkClass.values();
+        for (int i = classes.length - 1; i > workClass.ordinal(); i--) {
+            Ticket victim = queues.get(classes[i]).pollLast();
+            if (victim != null) {
+                queued--;
+                victim.state = TicketState.DROPPED;
+                return victim;
+            }
+        }
+        return null;
+    }
+
+    private void expire(Ticket ticket) {
+        synchronized (this) {
+            if (ticket.state != TicketState.WAITING) {
+                return;
+            }
+            queues.get(ticket.workClass).remove(ticket);
+            queued--;
+            ticket.state = TicketState.DROPPED;
+        }
+        stats.recordExpired(ticket.workClass);
+        ticket.onDropped.run();
+    }
+
+    /**
+     * 실행 종료 - 가장 높은 등급의 대기 작업에 자리를 넘김
+     */
+    private void release() {
+        Ticket next = null;
+        synchronized (this) {
+            for (WorkClass workClass : WorkClass.values()) {
+                next = queues.get(workClass).pollFirst();
+                if (next != null) {
+                    queued--;
+                    next.state = TicketState.ADMITTED;
+                    break;
+                }
+            }
+            if (next == null) {
+                running--;
+            }
+        }
+        if (next != null) {
+            stats.recordAdmitted(next.workClass);
+            next.onAdmitted.accept(next);
+        }
+    }
+
+    private void withdraw(Ticket ticket) {
+        synchronized (this) {
+            if (ticket.state != TicketState.WAITING) {
+                return;
+            }
+            queues.get(ticket.workClass).remove(ticket);
+            queued--;
+            ticket.state = TicketState.CLOSED;
+        }
+    }
+
+    private enum TicketState {
+        WAITING, ADMITTED, DROPPED, CLOSED
+    }
+
+    /**
+     * 수용 티켓
+     * 허가 후 close 하면 자리를 반환하고, 허가 전 close 하면 대기를 취소합니다. 여러 번 호출해도 안전합니다.
+     */
+    final class Ticket implements AutoCloseable {
+
+        private final WorkClass workClass;
+        private final Consumer<Ticket> onAdmitted;
+        private final Runnable onDropped;
+
+        // AdmissionController 모니터로 보호
+        private TicketState state = TicketState.WAITING;
+
+        private Ticket(WorkClass workClass, Consumer<Ticket> onAdmitted, Runnable onDropped) {
+            this.workClass = workClass;
+            this.onAdmitted = onAdmitted;
+            this.onDropped = onDropped;
+        }
+
+        WorkClass workClass() {
+            return workClass;
+        }
+
+        @Override
+        public void close() {
+            boolean admitted;
+            synchronized (AdmissionController.this) {
+                admitted = state == TicketState.ADMITTED;
+                if (admitted) {
+                    state = TicketState.CLOSED;
+                }
+            }
+            if (admitted) {
+                release();
+            } else {
+                withdraw(this);
+            }
+        }
+    }
+
+    /**
+     * 대기 시간 상한 타이머 (최초 대기 시 생성)
+     */
+    private static final class ExpiryTimer {
+
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "somansa-admission-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 작업 등급별 수용/제거 통계
+ *
+ * - admitted : 실행 허가된 작업 (대기 후 허가 포함)
+ * - queued : 즉시 실행하지 못하고 대기열에 들어간 작업
+ * - rejected : 대기열이 가득 차 거절된 작업
+ * - shed : 상위 등급 작업에 자리를 내주고 제거된 대기 작업
+ * - expired : 대기 시간 상한을 넘겨 제거된 작업
+ */
+public class AdmissionStats {
+
+    private final Map<WorkClass, AtomicLong> admitted = newCounters();
+    private final Map<WorkClass, AtomicLong> queued = newCounters();
+    private final Map<WorkClass, AtomicLong> rejected = newCounters();
+    private final Map<WorkClass, AtomicLong> shed = newCounters();
+    private final Map<WorkClass, AtomicLong> expired = newCounters();
+
+    void recordAdmitted(WorkClass workClass) {
+        admitted.get(workClass).incrementAndGet();
+    }
+
+    void recordQueued(WorkClass workClass) {
+        queued.get(workClass).incrementAndGet();
+    }
+
+    void recordRejected(WorkClass workClass) {
+        rejected.get(workClass).incrementAndGet();
+    }
+
+    void recordShed(WorkClass workClass) {
+        shed.get(workClass).incrementAndGet();
+    }
+
+    void recordExpired(WorkClass workClass) {
+        expired.get(workClass).incrementAndGet();
+    }
+
+    public long getAdmitted(WorkClass workClass) {
+        return admitted.get(workClass).get();
+    }
+
+    public long getQueued(WorkClass workClass) {
+        return queued.get(workClass).get();
+    }
+
+    public long getRejected(WorkClass workClass) {
+        return rejected.get(workClass).get();
+    }
+
+    public long getShed(WorkClass workClass) {
+        return shed.get(workClass).get();
+    }
+
+    public long getExpired(WorkClass workClass) {
+        return expired.get(workClass).get();
+    }
+
+    /**
+     * 제거된 전체 작업 수 (거절 + 상위 등급 양보 + 대기 시간 초과)
+     */
+    public long getDropped(WorkClass workClass) {
+        return getRejected(workClass) + getShed(workClass) + getExpired(workClass);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("AdmissionStats{");
+        for (WorkClass workClass : WorkClass.values()) {
+            if (workClass.ordinal() > 0) {
+                sb.append(", ");
+            }
+            sb.append(workClass).append("=[admitted=").append(getAdmitted(workClass))
+                    .append(", queued=").append(getQueued(workClass))
+                    .append(", rejected=").append(getRejected(workClass))
+                    .append(", shed=").append(getShed(workClass))
+                    .append(", expired=").append(getExpired(workClass)).append(']');
+        }
+        return sb.append('}').toString();
+    }
+
+    private static Map<WorkClass, AtomicLong> newCounters() {
+        Map<WorkClass, AtomicLong> counters = new EnumMap<>(WorkClass.class);
+        for (WorkClass workClass : WorkClass.values()) {
+            counters.put(workClass, new AtomicLong());
+        }
+        return counters;
+    }
+}
@@ -0,0 +1,75 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import okhttp3.Call;
+
+/**
+ * 진행 중인 비동기 인증/조회 작업
+ * 여러 단계로 이루어진 작업에서 현재 진행 중인 HTTP 호출을 추적해 취소 시 함께 중단합니다.
+ */
+class AsyncOperation {
+
+    private volatile boolean cancelled;
+    private volatile Call currentCall;
+    private volatile AsyncOperation currentStage;
+    private volatile AdmissionController.Ticket currentTicket;
+
+    /**
+     * 현재 진행 중인 HTTP 호출 교체
+     */
+    void track(Call call) {
+        this.currentCall = call;
+        if (cancelled) {
+            call.cancel();
+        }
+    }
+
+    /**
+     * 현재 진행 중인 하위 작업 교체
+     */
+    void track(AsyncOperation stage) {
+        this.currentStage = stage;
+        if (cancelled) {
+            stage.cancel();
+        }
+    }
+
+    /**
+     * 현재 보유/대기 중인 수용 티켓 교체 (취소 시 자리 반환)
+     */
+    void track(AdmissionController.Ticket ticket) {
+        this.currentTicket = ticket;
+        if (cancelled) {
+            ticket.close();
+        }
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 작업 취소 - 진행 중인 HTTP 호출도 중단
+     */
+    void cancel() {
+        cancelled = true;
+        Call call = currentCall;
+        if (call != null) {
+            call.cancel();
+        }
+        AsyncOperation stage = currentStage;
+        if (stage != null) {
+            stage.cancel();
+        }
+        AdmissionController.Ticket ticket = currentTicket;
+        if (ticket != null) {
+            ticket.close();
+        }
+    }
+
+    /**
+     * 이미 완료된 작업
+     */
+    static AsyncOperation completed() {
+        return new AsyncOperation();
+    }
+}
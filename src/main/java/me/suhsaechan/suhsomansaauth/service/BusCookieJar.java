@@ -0,0 +1,62 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import okhttp3.Cookie;
+import okhttp3.CookieJar;
+import okhttp3.HttpUrl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 버스 시스템 세션 단위 쿠키 저장소
+ * 같은 이름/도메인/경로의 쿠키는 교체하고, 만료된 쿠키는 조회 시 제거합니다.
+ */
+class BusCookieJar implements CookieJar {
+
+    static final String SESSION_COOKIE_NAME = "ASP.NET_SessionId";
+
+    private final List<Cookie> cookieStore = new ArrayList<>();
+
+    @Override
+    public synchronized void saveFromResponse(HttpUrl url, List<Cookie> cookies) {
+        for (Cookie cookie : cookies) {
+            cookieStore.removeIf(existing -> existing.name().equals(cookie.name())
+                    && existing.domain().equals(cookie.domain())
+                    && existing.path().equals(cookie.path()));
+            cookieStore.add(cookie);
+        }
+    }
+
+    @Override
+    public synchronized List<Cookie> loadForRequest(HttpUrl url) {
+        long now = System.currentTimeMillis();
+        List<Cookie> validCookies = new ArrayList<>();
+        for (Iterator<Cookie> it = cookieStore.iterator(); it.hasNext(); ) {
+            Cookie cookie = it.next();
+            if (cookie.expiresAt() < now) {
+                it.remove();
+            } else if (cookie.matches(url)) {
+                validCookies.add(cookie);
+            }
+        }
+        return validCookies;
+    }
+
+    /**
+     * 해당 URL 에 보낼 유효한 ASP.NET 세션 쿠키 보유 여부
+     */
+    synchronized boolean hasSessionCookie(HttpUrl url) {
+        long now = System.currentTimeMillis();
+        for (Cookie cookie : cookieStore) {
+            if (SESSION_COOKIE_NAME.equals(cookie.name()) && cookie.expiresAt() >= now && cookie.matches(url)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized void clear() {
+        cookieStore.clear();
+    }
+}
@@ -0,0 +1,110 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import me.suhsaechan.suhsomansaauth.traffic.TrafficReplayer;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+
+import java.util.List;
+
+/**
+ * 버스 시스템 세션 컨텍스트
+ * 쿠키 저장소와 세션에 바인딩된 사용자 정보를 보관합니다.
+ * 한 번에 하나의 조회만 사용하며, 조회가 끝나면 풀로 반환되어 재사용됩니다.
+ */
+class BusSessionContext {
+
+    private final BusCookieJar cookieJar = new BusCookieJar();
+    private final OkHttpClient client;
+
+    // LoginCheck 로 바인딩된 로그인 ID / 승객 ID
+    private String boundLoginId;
+    private int passengerId = -1;
+
+    // CreateSession 까지 완료된 로그인 ID
+    private String sessionLoginId;
+
+    private long lastUsedAt = System.currentTimeMillis();
+
+    BusSessionContext(OkHttpClient baseClient) {
+        // 커넥션 풀과 디스패처는 공유하고 쿠키 저장소만 분리
+        OkHttpClient.Builder builder = baseClient.newBuilder()
+                .cookieJar(cookieJar);
+        // 재생 모드: 재생 응답의 쿠키가 이 세션의 저장소에 저장되도록 바인딩
+        List<Interceptor> interceptors = builder.interceptors();
+        for (int i = 0; i < interceptors.size(); i++) {
+            if (interceptors.get(i) instanceof TrafficReplayer) {
+                interceptors.set(i, ((TrafficReplayer) interceptors.get(i)).withCookieJar(cookieJar));
+            }
+        }
+        this.client = builder.build();
+    }
+
+    OkHttpClient client() {
+        return client;
+    }
+
+    boolean hasSessionCookie(HttpUrl url) {
+        return cookieJar.hasSessionCookie(url);
+    }
+
+    /**
+     * LoginCheck 완료 시 호출
+     */
+    void bind(String loginId, int passengerId) {
+        this.boundLoginId = loginId;
+        this.passengerId = passengerId;
+        this.sessionLoginId = null;
+    }
+
+    /**
+     * CreateSession 완료 시 호출
+     */
+    void markSessionReady(String loginId) {
+        this.sessionLoginId = loginId;
+    }
+
+    /**
+     * 어떤 사용자에게든 바인딩되어 있는지
+     */
+    boolean isBound() {
+        return passengerId > 0;
+    }
+
+    boolean isBoundTo(String loginId) {
+        return passengerId > 0 && loginId.equals(boundLoginId);
+    }
+
+    boolean isSessionReadyFor(String loginId) {
+        return isBoundTo(loginId) && loginId.equals(sessionLoginId);
+    }
+
+    int passengerId() {
+        return passengerId;
+    }
+
+    /**
+     * 바인딩 정보만 초기화 (쿠키 유지)
+     */
+    void unbind() {
+        this.boundLoginId = null;
+        this.passengerId = -1;
+        this.sessionLoginId = null;
+    }
+
+    /**
+     * 쿠키와 바인딩 정보를 모두 초기화
+     */
+    void reset() {
+        unbind();
+        cookieJar.clear();
+    }
+
+    void touch() {
+        this.lastUsedAt = System.currentTimeMillis();
+    }
+
+    boolean isIdleLongerThan(long idleTimeoutMillis) {
+        return System.currentTimeMillis() - lastUsedAt > idleTimeoutMillis;
+    }
+}
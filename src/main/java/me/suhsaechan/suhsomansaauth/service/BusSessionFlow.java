@@ -0,0 +1,490 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import me.suhsaechan.suhsomansaauth.util.JsonUtil;
+import me.suhsaechan.suhsomansaauth.util.SomansaLogger;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 버스 시스템 이름 조회 상태 머신
+ *
+ * LOGIN_PAGE → LOGIN_CHECK → CREATE_SESSION → (CONFIRM_SESSION) → HOME
+ *
+ * - 사후조건이 이미 성립한 단계는 생략합니다 (세션 쿠키 보유 시 LOGIN_PAGE 등).
+ * - 다른 사용자가 쓰던 세션은 쿠키까지 초기화하고 새 세션으로 시작합니다 (이전 사용자 이름 반환 방지).
+ * - 두 번째 CreateSession 은 첫 응답이 필요성을 보일 때만 호출합니다 (누락되면 Home 단계에서 재시도).
+ * - 이후 단계가 세션 상태 누락으로 실패한 경우에만 앞 단계를 한 번 재시도합니다.
+ * - 로그인 페이지는 쿠키 발급용이므로 조건부 요청(ETag / Last-Modified)으로 본문 전송을 줄입니다.
+ * - Home 페이지는 이름 요소를 찾는 즉시 나머지 본문 읽기를 중단합니다.
+ */
+class BusSessionFlow {
+
+    private static final SomansaLogger logger = SomansaLogger.getLogger(BusSessionFlow.class);
+
+    // 버스 예약 시스템 엔드포인트
+    static final String BUS_LOGIN_PAGE_URL = "https://cs.android.busin.co.kr/Login.aspx?device=";
+    static final String BUS_LOGIN_API_URL = "https://cs.android.busin.co.kr/Login.aspx/LoginCheck";
+    static final String BUS_CREATE_SESSION_URL = "https://cs.android.busin.co.kr/Default.aspx/CreateSession";
+    static final String BUS_HOME_URL = "https://cs.android.busin.co.kr/Home.aspx#";
+
+    private static final String USER_AGENT = "Mozilla/5.0 (iPhone; CPU iPhone OS 16_6 like Mac OS X) AppleWebKit/605.1.15";
+    private static final HttpUrl BUS_BASE_URL = HttpUrl.get(BUS_LOGIN_PAGE_URL);
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    // Home 페이지 이름 요소
+    private static final String NAME_ELEMENT_ID = "noticeClear";
+    private static final String NAME_ELEMENT_CLOSE = "</span>";
+
+    private final UpstreamHttpClient upstream;
+    private final BusSessionStats stats;
+
+    // 로그인 페이지 검증값 (모든 세션이 공유)
+    private final PageValidators loginPage = new PageValidators();
+
+    BusSessionFlow(UpstreamHttpClient upstream, BusSessionStats stats) {
+        this.upstream = upstream;
+        this.stats = stats;
+    }
+
+    /**
+     * 동기 실행
+     *
+     * @return 사용자 이름, 실패 시 null
+     */
+    String run(BusSessionContext context, String loginId) {
+        BusLookup lookup = start(context, loginId);
+        while (!lookup.isFinished()) {
+            BusSessionStep step = lookup.step;
+            Request request = buildRequest(lookup);
+            try (Response response = upstream.execute(context.client(), step.getEndpoint(), request)) {
+                onResponse(lookup, response);
+            } catch (IOException e) {
+                onFailure(lookup, e);
+            }
+        }
+        return lookup.userName;
+    }
+
+    /**
+     * 비동기 실행 - 각 단계 응답 콜백에서 다음 단계를 호출하므로 스레드를 점유하지 않음
+     *
+     * @param onComplete 사용자 이름 (실패 시 null) 전달, 취소된 경우 호출되지 않음
+     */
+    AsyncOperation runAsync(BusSessionContext context, String loginId, Consumer<String> onComplete) {
+        AsyncOperation operation = new AsyncOperation();
+        BusLookup lookup = start(context, loginId);
+        proceedAsync(operation, lookup, onComplete);
+        return operation;
+    }
+
+    private void proceedAsync(AsyncOperation operation, BusLookup lookup, Consumer<String> onComplete) {
+        if (operation.isCancelled()) {
+            return;
+        }
+        if (lookup.isFinished()) {
+            onComplete.accept(lookup.userName);
+            return;
+        }
+
+        Request request = buildRequest(lookup);
+        upstream.enqueue(operation, lookup.context.client(), lookup.step.getEndpoint(), request,
+                new UpstreamHttpClient.UpstreamCallback() {
+                    @Override
+                    public void onResponse(Response response) throws IOException {
+                        BusSessionFlow.this.onResponse(lookup, response);
+                        proceedAsync(operation, lookup, onComplete);
+                    }
+
+                    @Override
+                    public void onFailure(IOException e) {
+                        if (operation.isCancelled()) {
+                            return;
+                        }
+                        BusSessionFlow.this.onFailure(lookup, e);
+                        proceedAsync(operation, lookup, onComplete);
+                    }
+                });
+    }
+
+    /**
+     * 조회 시작 - 이미 성립한 단계를 건너뛴 첫 단계를 결정
+     */
+    BusLookup start(BusSessionContext context, String loginId) {
+        stats.recordLookup();
+        BusLookup lookup = new BusLookup(context, loginId);
+
+        if (!context.isBoundTo(loginId) && (context.isBound() || context.hasSessionCookie(BUS_BASE_URL))) {
+            // 다른 사용자가 쓰던 세션 - 서버 측 세션 상태가 남지 않도록 새 세션으로 시작
+            logger.debug("다른 사용자의 세션 - 쿠키 초기화 후 새 세션으로 조회");
+            context.reset();
+        }
+
+        if (context.hasSessionCookie(BUS_BASE_URL)) {
+            logger.debug("기존 세션 쿠키 보유 - 로그인 페이지 생략");
+            skip(BusSessionStep.LOGIN_PAGE);
+            lookup.loginPageSkipped = true;
+            lookup.step = afterLoginPage(lookup);
+        } else {
+            lookup.step = BusSessionStep.LOGIN_PAGE;
+        }
+        return lookup;
+    }
+
+    /**
+     * 현재 단계의 요청 생성
+     */
+    Request buildRequest(BusLookup lookup) {
+        switch (lookup.step) {
+            case LOGIN_PAGE:
+                return loginPage.apply(new Request.Builder()
+                        .url(BUS_LOGIN_PAGE_URL)
+                        .get()
+                        .addHeader("User-Agent", USER_AGENT))
+                        .build();
+            case LOGIN_CHECK:
+                return new Request.Builder()
+                        .url(BUS_LOGIN_API_URL)
+                        .post(RequestBody.create(
+                                String.format("{ \"data\": \"%s,pc\" }", JsonUtil.escapeJson(lookup.loginId)), JSON))
+                        .addHeader("Content-Type", "application/json; charset=UTF-8")
+                        .addHeader("User-Agent", USER_AGENT)
+                        .addHeader("Referer", BUS_LOGIN_PAGE_URL)
+                        .build();
+            case CREATE_SESSION:
+            case CONFIRM_SESSION:
+                String data = String.format("%s,%d,,pc", lookup.loginId, lookup.context.passengerId());
+                return new Request.Builder()
+                        .url(BUS_CREATE_SESSION_URL)
+                        .post(RequestBody.create(
+                                String.format("{ \"data\": \"%s\" }", JsonUtil.escapeJson(data)), JSON))
+                        .addHeader("Content-Type", "application/json; charset=UTF-8")
+                        .addHeader("User-Agent", USER_AGENT)
+                        .build();
+            case HOME:
+                return new Request.Builder()
+                        .url(BUS_HOME_URL)
+                        .get()
+                        .addHeader("User-Agent", USER_AGENT)
+                        .addHeader("Referer", BUS_LOGIN_PAGE_URL)
+                        .build();
+            default:
+                throw new IllegalStateException("알 수 없는 단계: " + lookup.step);
+        }
+    }
+
+    /**
+     * 현재 단계 응답 처리 후 다음 단계 결정
+     */
+    void onResponse(BusLookup lookup, Response response) throws IOException {
+        BusSessionStep step = lookup.step;
+        stats.recordExecuted(step);
+        BusSessionContext context = lookup.context;
+
+        switch (step) {
+            case LOGIN_PAGE:
+                // 쿠키만 필요하므로 본문은 읽지 않음
+                if (response.code() == 304) {
+                    stats.recordNotModified();
+                    if (!context.hasSessionCookie(BUS_BASE_URL)) {
+                        // 304 응답에 세션 쿠키가 없으면 검증값 없이 다시 요청
+                        logger.debug("버스 로그인 페이지 304 응답에 세션 쿠키 없음 - 전체 요청으로 재시도");
+                        loginPage.invalidate();
+                        if (retry(lookup, BusSessionStep.LOGIN_PAGE)) {
+                            return;
+                        }
+                        lookup.fail();
+                        return;
+                    }
+                    logger.debug("버스 로그인 페이지 변경 없음 (304)");
+                } else if (response.isSuccessful()) {
+                    loginPage.update(response);
+                    logger.debug("버스 로그인 페이지 GET 성공");
+                } else {
+                    logger.warn("버스 로그인 페이지 GET 실패: " + response.code());
+                    lookup.fail();
+                    return;
+                }
+                lookup.step = afterLoginPage(lookup);
+                return;
+
+            case LOGIN_CHECK:
+                int passengerId = response.isSuccessful() ? parsePassengerId(response.body().string()) : -1;
+                if (passengerId > 0) {
+                    logger.debug("추가 인증 성공, ID: " + passengerId);
+                    context.bind(lookup.loginId, passengerId);
+                    lookup.step = BusSessionStep.CREATE_SESSION;
+                } else if (lookup.loginPageSkipped && retry(lookup, BusSessionStep.LOGIN_PAGE)) {
+                    // 재사용한 세션 쿠키가 서버에서 만료되었을 수 있음
+                    logger.debug("추가 인증 실패 - 새 세션으로 재시도");
+                    context.reset();
+                    lookup.step = BusSessionStep.LOGIN_PAGE;
+                } else {
+                    logger.debug("추가 인증 실패: " + response.code());
+                    lookup.fail();
+                }
+                return;
+
+            case CREATE_SESSION:
+                logger.debug("첫 번째 세션 생성: " + response.code());
+                if (needsConfirmation(response)) {
+                    lookup.step = BusSessionStep.CONFIRM_SESSION;
+                } else {
+                    skip(BusSessionStep.CONFIRM_SESSION);
+                    context.markSessionReady(lookup.loginId);
+                    lookup.step = BusSessionStep.HOME;
+                }
+                return;
+
+            case CONFIRM_SESSION:
+                logger.debug("두 번째 세션 생성: " + response.code());
+                lookup.confirmed = true;
+                if (response.isSuccessful()) {
+                    context.markSessionReady(lookup.loginId);
+                }
+                lookup.step = BusSessionStep.HOME;
+                return;
+
+            case HOME:
+                String userName = null;
+                if (response.isSuccessful() && !isRedirectedToLogin(response)) {
+                    userName = extractUserName(response.body());
+                } else {
+                    logger.debug("버스 Home 페이지 세션 없음: " + response.code());
+                }
+                if (userName != null) {
+                    lookup.succeed(userName);
+                    stats.recordSuccess();
+                } else if (!lookup.confirmed && retry(lookup, BusSessionStep.CONFIRM_SESSION)) {
+                    // 세션 확정이 덜 된 상태 - 생략했던 두 번째 CreateSession 수행
+                    lookup.step = BusSessionStep.CONFIRM_SESSION;
+                } else if (lookup.loginCheckSkipped && retry(lookup, BusSessionStep.LOGIN_CHECK)) {
+                    // 재사용한 세션 바인딩이 유효하지 않음 - LoginCheck 부터 다시 수행
+                    context.unbind();
+                    lookup.loginCheckSkipped = false;
+                    lookup.step = BusSessionStep.LOGIN_CHECK;
+                } else {
+                    logger.warn("사용자 이름 요소를 찾을 수 없음");
+                    lookup.fail();
+                }
+                return;
+
+            default:
+                lookup.fail();
+        }
+    }
+
+    /**
+     * 현재 단계 호출 실패 처리
+     */
+    void onFailure(BusLookup lookup, IOException e) {
+        logger.error("버스 시스템 " + lookup.step + " 단계 중 예외", e);
+        lookup.fail();
+    }
+
+    /**
+     * 로그인 페이지 이후 단계 결정 - 세션 바인딩 상태에 따라 LoginCheck / CreateSession 생략
+     */
+    private BusSessionStep afterLoginPage(BusLookup lookup) {
+        BusSessionContext context = lookup.context;
+        if (context.isSessionReadyFor(lookup.loginId)) {
+            skip(BusSessionStep.LOGIN_CHECK);
+            skip(BusSessionStep.CREATE_SESSION);
+            skip(BusSessionStep.CONFIRM_SESSION);
+            lookup.loginCheckSkipped = true;
+            return BusSessionStep.HOME;
+        }
+        if (context.isBoundTo(lookup.loginId)) {
+            skip(BusSessionStep.LOGIN_CHECK);
+            lookup.loginCheckSkipped = true;
+            return BusSessionStep.CREATE_SESSION;
+        }
+        return BusSessionStep.LOGIN_CHECK;
+    }
+
+    /**
+     * 첫 CreateSession 응답이 두 번째 호출을 필요로 하는지 판단
+     * 실패했거나 세션 쿠키가 새로 발급되었으면(첫 호출이 이전 세션에 기록됨) 다시 호출합니다.
+     */
+    private boolean needsConfirmation(Response response) {
+        if (!response.isSuccessful()) {
+            return true;
+        }
+        for (String setCookie : response.headers("Set-Cookie")) {
+            if (setCookie.startsWith(BusCookieJar.SESSION_COOKIE_NAME + "=")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 리다이렉트로 로그인 페이지에 도달했는지 (세션 상태 누락)
+     */
+    private boolean isRedirectedToLogin(Response response) {
+        return response.request().url().encodedPath().toLowerCase().contains("login.aspx");
+    }
+
+    private void skip(BusSessionStep step) {
+        stats.recordSkipped(step);
+    }
+
+    private boolean retry(BusLookup lookup, BusSessionStep step) {
+        if (!lookup.retried.add(step)) {
+            return false;
+        }
+        stats.recordRetried(step);
+        return true;
+    }
+
+    /**
+     * {"d":126491} 형태에서 승객 ID 추출
+     */
+    static int parsePassengerId(String responseBody) {
+        logger.debug("버스 로그인 응답: " + responseBody);
+        try {
+            // "d": 뒤의 숫자 부분만 추출
+            String pattern = "\"d\":";
+            int startIndex = responseBody.indexOf(pattern);
+            if (startIndex == -1) {
+                logger.debug("\"d\": 패턴을 찾을 수 없음: " + responseBody);
+                return -1;
+            }
+            startIndex += pattern.length();
+            int endIndex = responseBody.indexOf("}", startIndex);
+            if (endIndex == -1) {
+                endIndex = responseBody.length(); // } 가 없으면 끝까지
+            }
+
+            String idStr = responseBody.substring(startIndex, endIndex)
+                    .trim()
+                    .replaceAll("[^0-9-]", ""); // 숫자와 마이너스만 남김
+            if (idStr.isEmpty()) {
+                logger.debug("ID를 추출할 수 없음: " + responseBody);
+                return -1;
+            }
+            return Integer.parseInt(idStr);
+        } catch (Exception e) {
+            logger.debug("ID 파싱 실패 - 응답: " + responseBody + ", 오류: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Home 페이지 본문을 읽으면서 사용자 이름 추출
+     * 이름 요소의 닫는 태그가 도착하면 한 번만 파싱해 추출하고 나머지 본문은 읽지 않습니다.
+     * 그 시점에 찾지 못하면 (스크립트 속 ID 언급, 빈 요소 등) 끝까지 읽은 전체 본문으로 대안 방법까지 시도합니다.
+     */
+    String extractUserName(ResponseBody body) throws IOException {
+        StringBuilder html = new StringBuilder();
+        int elementIndex = -1;
+        boolean partialParsed = false;
+        try (BufferedReader reader = new BufferedReader(body.charStream())) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int scanFrom = Math.max(0, html.length() - NAME_ELEMENT_ID.length());
+                int closeScanFrom = Math.max(0, html.length() - NAME_ELEMENT_CLOSE.length());
+                html.append(line).append('\n');
+                if (partialParsed) {
+                    continue;
+                }
+                if (elementIndex < 0) {
+                    elementIndex = html.indexOf(NAME_ELEMENT_ID, scanFrom);
+                    closeScanFrom = elementIndex;
+                }
+                if (elementIndex >= 0 && html.indexOf(NAME_ELEMENT_CLOSE, Math.max(elementIndex, closeScanFrom)) >= 0) {
+                    partialParsed = true;
+                    Element nameElement = Jsoup.parse(html.toString()).getElementById(NAME_ELEMENT_ID);
+                    if (nameElement != null && !nameElement.text().trim().isEmpty()) {
+                        String userName = nameElement.text().trim();
+                        if (reader.read() != -1) {
+                            stats.recordPartialRead();
+                        }
+                        logger.debug("사용자 이름 추출 성공: " + userName);
+                        return userName;
+                    }
+                }
+            }
+        }
+        return extractUserName(html.toString());
+    }
+
+    /**
+     * Home 페이지 HTML 에서 사용자 이름 추출
+     */
+    static String extractUserName(String html) {
+        Document doc = Jsoup.parse(html);
+
+        // <span id="noticeClear">서새찬</span> 요소 찾기
+        Element nameElement = doc.getElementById(NAME_ELEMENT_ID);
+        if (nameElement != null) {
+            String userName = nameElement.text().trim();
+            logger.debug("사용자 이름 추출 성공: " + userName);
+            return userName;
+        }
+
+        // 대안: "서새찬 님 안녕하세요" 형태에서 추출
+        Element titleElement = doc.select(".contents-box .title").first();
+        if (titleElement != null) {
+            String titleText = titleElement.text();
+            if (titleText.contains("님 안녕하세요")) {
+                String userName = titleText.replace("님 안녕하세요", "").trim();
+                logger.debug("대안 방법으로 사용자 이름 추출 성공: " + userName);
+                return userName;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 조회 1건의 진행 상태
+     */
+    static class BusLookup {
+
+        final BusSessionContext context;
+        final String loginId;
+        final Set<BusSessionStep> retried = EnumSet.noneOf(BusSessionStep.class);
+
+        // 현재 단계, 종료 시 null
+        BusSessionStep step;
+        String userName;
+
+        boolean loginPageSkipped;
+        boolean loginCheckSkipped;
+        boolean confirmed;
+
+        BusLookup(BusSessionContext context, String loginId) {
+            this.context = context;
+            this.loginId = loginId;
+        }
+
+        boolean isFinished() {
+            return step == null;
+        }
+
+        boolean isSucceeded() {
+            return userName != null;
+        }
+
+        void succeed(String userName) {
+            this.userName = userName;
+            this.step = null;
+        }
+
+        void fail() {
+            this.step = null;
+        }
+    }
+}
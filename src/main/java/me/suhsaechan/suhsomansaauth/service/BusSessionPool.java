@@ -0,0 +1,61 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import okhttp3.OkHttpClient;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 유휴 버스 시스템 세션 풀
+ * 최근에 사용한 세션을 우선 재사용하고, 유휴 시간이 초과된 세션은 버립니다.
+ */
+class BusSessionPool {
+
+    private final OkHttpClient baseClient;
+    private final int maxIdle;
+    private final long idleTimeoutMillis;
+
+    private final Deque<BusSessionContext> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    BusSessionPool(OkHttpClient baseClient, int maxIdle, long idleTimeoutMillis) {
+        this.baseClient = baseClient;
+        this.maxIdle = maxIdle;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    /**
+     * 유휴 세션을 꺼내거나 새 세션 생성
+     * 다른 사용자가 쓰던 세션일 수 있으며, 이 경우 BusSessionFlow 가 조회 시작 시 초기화합니다.
+     */
+    BusSessionContext acquire() {
+        BusSessionContext context;
+        while ((context = idle.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            if (!context.isIdleLongerThan(idleTimeoutMillis)) {
+                return context;
+            }
+        }
+        return newContext();
+    }
+
+    /**
+     * 풀에 속하지 않는 독립 세션 생성
+     */
+    BusSessionContext newContext() {
+        return new BusSessionContext(baseClient);
+    }
+
+    /**
+     * 정상 종료된 세션 반환
+     */
+    void release(BusSessionContext context) {
+        context.touch();
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offerFirst(context);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 버스 시스템 이름 조회 단계별 통계
+ * 실행/생략/재시도 횟수와 절약된 호출 수, 전송을 줄인 응답 수를 집계합니다.
+ */
+public class BusSessionStats {
+
+    private final Map<BusSessionStep, AtomicLong> executed = newCounters();
+    private final Map<BusSessionStep, AtomicLong> skipped = newCounters();
+    private final Map<BusSessionStep, AtomicLong> retried = newCounters();
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong successes = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong partialReads = new AtomicLong();
+
+    void recordLookup() {
+        lookups.incrementAndGet();
+    }
+
+    void recordSuccess() {
+        successes.incrementAndGet();
+    }
+
+    void recordNotModified() {
+        notModified.incrementAndGet();
+    }
+
+    void recordPartialRead() {
+        partialReads.incrementAndGet();
+    }
+
+    void recordExecuted(BusSessionStep step) {
+        executed.get(step).incrementAndGet();
+    }
+
+    void recordSkipped(BusSessionStep step) {
+        skipped.get(step).incrementAndGet();
+    }
+
+    void recordRetried(BusSessionStep step) {
+        retried.get(step).incrementAndGet();
+    }
+
+    public long getLookups() {
+        return lookups.get();
+    }
+
+    public long getSuccesses() {
+        return successes.get();
+    }
+
+    /**
+     * 로그인 페이지 304 (본문 없이 쿠키만 수신) 횟수
+     */
+    public long getNotModified() {
+        return notModified.get();
+    }
+
+    /**
+     * Home 페이지 본문을 끝까지 읽지 않고 이름을 추출한 횟수
+     */
+    public long getPartialReads() {
+        return partialReads.get();
+    }
+
+    public long getExecuted(BusSessionStep step) {
+        return executed.get(step).get();
+    }
+
+    public long getSkipped(BusSessionStep step) {
+        return skipped.get(step).get();
+    }
+
+    public long getRetried(BusSessionStep step) {
+        return retried.get(step).get();
+    }
+
+    /**
+     * 절약된 호출 수 (생략된 단계 수 - 재시도로 추가된 호출 수)
+     */
+    public long getHopsSaved() {
+        long saved = 0;
+        for (BusSessionStep step : BusSessionStep.values()) {
+            saved += skipped.get(step).get() - retried.get(step).get();
+        }
+        return saved;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("BusSessionStats{lookups=").append(lookups.get())
+                .append(", successes=").append(successes.get())
+                .append(", hopsSaved=").append(getHopsSaved())
+                .append(", notModified=").append(notModified.get())
+                .append(", partialReads=").append(partialReads.get());
+        for (BusSessionStep step : BusSessionStep.values()) {
+            sb.append(", ").append(step).append("=[executed=").append(getExecuted(step))
+                    .append(", skipped=").append(getSkipped(step))
+                    .append(", retried=").append(getRetried(step)).append(']');
+        }
+        return sb.append('}').toString();
+    }
+
+    private static Map<BusSessionStep, AtomicLong> newCounters() {
+        Map<BusSessionStep, AtomicLong> counters = new EnumMap<>(BusSessionStep.class);
+        for (BusSessionStep step : BusSessionStep.values()) {
+            counters.put(step, new AtomicLong());
+        }
+        return counters;
+    }
+}
@@ -0,0 +1,33 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+/**
+ * 버스 시스템 이름 조회 단계
+ * 기존 흐름은 다섯 단계를 항상 순서대로 호출했습니다.
+ */
+public enum BusSessionStep {
+
+    // Login.aspx GET (세션 쿠키 획득)
+    LOGIN_PAGE(SomansaEndpoint.BUS_LOGIN_PAGE),
+
+    // LoginCheck (승객 ID 획득)
+    LOGIN_CHECK(SomansaEndpoint.BUS_LOGIN_CHECK),
+
+    // 첫 번째 CreateSession
+    CREATE_SESSION(SomansaEndpoint.BUS_CREATE_SESSION),
+
+    // 두 번째 CreateSession (첫 응답상 필요할 때만)
+    CONFIRM_SESSION(SomansaEndpoint.BUS_CREATE_SESSION),
+
+    // Home.aspx GET (사용자 이름 추출)
+    HOME(SomansaEndpoint.BUS_HOME);
+
+    private final SomansaEndpoint endpoint;
+
+    BusSessionStep(SomansaEndpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public SomansaEndpoint getEndpoint() {
+        return endpoint;
+    }
+}
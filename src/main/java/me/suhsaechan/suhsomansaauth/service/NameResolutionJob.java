@@ -0,0 +1,226 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import me.suhsaechan.suhsomansaauth.dto.NameResolution;
+import me.suhsaechan.suhsomansaauth.util.RateLimiter;
+import me.suhsaechan.suhsomansaauth.util.SomansaLogger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 ID 일괄 이름 조회 작업
+ *
+ * - 제한된 수의 워커가 각자 독립된 버스 세션(쿠키)으로 병렬 조회합니다.
+ * - 모든 워커가 하나의 속도 제한기를 공유해 버스 시스템에 부하를 몰아주지 않습니다.
+ *   캐시에서 바로 찾은 ID 는 버스 시스템을 호출하지 않으므로 속도 제한 없이 처리합니다.
+ * - 결과는 완료되는 즉시 리스너로 전달되며, 진행/오류 건수를 조회할 수 있습니다.
+ * - 취소되거나 중단된 경우 {@link #getRemainingLoginIds()} 로 남은 ID만 다시 조회할 수 있습니다.
+ */
+public class NameResolutionJob {
+
+    private static final SomansaLogger logger = SomansaLogger.getLogger(NameResolutionJob.class);
+
+    private final List<String> loginIds;
+    private final Queue<String> queue;
+    private final Set<String> completed = ConcurrentHashMap.newKeySet();
+    private final Set<String> failed = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger resolvedCount = new AtomicInteger();
+    private final AtomicInteger failedCount = new AtomicInteger();
+
+    private final int parallelism;
+    private final RateLimiter rateLimiter;
+    private final Supplier<BusSessionContext> contextFactory;
+    private final Resolver resolver;
+    private final Consumer<NameResolution> listener;
+
+    private final CountDownLatch finished;
+    private final long progressLogInterval;
+    private volatile boolean cancelled;
+
+    NameResolutionJob(List<String> loginIds,
+                      int parallelism,
+                      RateLimiter rateLimiter,
+                      Supplier<BusSessionContext> contextFactory,
+                      Resolver resolver,
+                      Consumer<NameResolution> listener) {
+        this.loginIds = Collections.unmodifiableList(new ArrayList<>(new LinkedHashSet<>(loginIds)));
+        this.queue = new ConcurrentLinkedQueue<>(this.loginIds);
+        this.parallelism = Math.max(1, Math.min(parallelism, this.loginIds.size()));
+        this.rateLimiter = rateLimiter;
+        this.contextFactory = contextFactory;
+        this.resolver = resolver;
+        this.listener = listener;
+        this.finished = new CountDownLatch(this.loginIds.isEmpty() ? 0 : this.parallelism);
+        this.progressLogInterval = Math.max(1, this.loginIds.size() / 10);
+    }
+
+    /**
+     * 워커 시작
+     */
+    void start() {
+        if (loginIds.isEmpty()) {
+            return;
+        }
+        logger.info("일괄 이름 조회 시작 - 대상: " + loginIds.size() + "건, 워커: " + parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            Thread worker = new Thread(this::runWorker, "somansa-name-resolver-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    private void runWorker() {
+        // 워커별 독립 세션 - 다른 워커와 쿠키를 공유하지 않음
+        BusSessionContext context = contextFactory.get();
+        try {
+            String loginId;
+            while (!cancelled && (loginId = queue.poll()) != null) {
+                NameResolution resolution = resolveOne(context, loginId);
+                if (!resolution.isResolved()) {
+                    // 실패한 세션 상태를 다음 조회로 끌고 가지 않음
+                    context = contextFactory.get();
+                }
+                complete(resolution);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("일괄 이름 조회 워커 중단: " + Thread.currentThread().getName());
+        } finally {
+            finished.countDown();
+            if (finished.getCount() == 0) {
+                logger.info("일괄 이름 조회 종료 - " + progressSummary());
+            }
+        }
+    }
+
+    private NameResolution resolveOne(BusSessionContext context, String loginId) throws InterruptedException {
+        try {
+            String userName = resolver.resolve(context, loginId, rateLimiter);
+            return userName != null
+                    ? NameResolution.resolved(loginId, userName)
+                    : NameResolution.failed(loginId, "사용자 이름을 찾을 수 없습니다");
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.debug("이름 조회 중 예외 발생", e);
+            return NameResolution.failed(loginId, "이름 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    private void complete(NameResolution resolution) {
+        if (resolution.isResolved()) {
+            resolvedCount.incrementAndGet();
+        } else {
+            failedCount.incrementAndGet();
+            failed.add(resolution.getLoginId());
+        }
+        completed.add(resolution.getLoginId());
+
+        try {
+            listener.accept(resolution);
+        } catch (Exception e) {
+            logger.error("일괄 이름 조회 결과 처리 중 예외", e);
+        }
+
+        if (completed.size() % progressLogInterval == 0) {
+            logger.info("일괄 이름 조회 진행 - " + progressSummary());
+        }
+    }
+
+    /**
+     * 남은 조회 취소 (진행 중인 조회는 완료까지 기다림)
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isDone() {
+        return finished.getCount() == 0;
+    }
+
+    /**
+     * 작업 종료 대기
+     *
+     * @return 제한 시간 내 종료 여부
+     */
+    public boolean awaitCompletion(Duration timeout) throws InterruptedException {
+        return finished.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public int getTotal() {
+        return loginIds.size();
+    }
+
+    public int getCompletedCount() {
+        return completed.size();
+    }
+
+    public int getResolvedCount() {
+        return resolvedCount.get();
+    }
+
+    public int getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * 아직 결과가 나오지 않은 로그인 ID (재시작용)
+     */
+    public List<String> getRemainingLoginIds() {
+        List<String> remaining = new ArrayList<>();
+        for (String loginId : loginIds) {
+            if (!completed.contains(loginId)) {
+                remaining.add(loginId);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * 조회에 실패한 로그인 ID (재시도용)
+     */
+    public List<String> getFailedLoginIds() {
+        List<String> result = new ArrayList<>();
+        for (String loginId : loginIds) {
+            if (failed.contains(loginId)) {
+                result.add(loginId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 로그인 ID 하나의 이름 조회
+     */
+    @FunctionalInterface
+    interface Resolver {
+
+        /**
+         * @param rateLimiter 작업이 공유하는 속도 제한기 (캐시 미스로 버스 시스템을 호출하기 직전에만 대기)
+         * @return 사용자 이름, 찾지 못하면 null
+         */
+        String resolve(BusSessionContext context, String loginId, RateLimiter rateLimiter) throws InterruptedException;
+    }
+
+    private String progressSummary() {
+        return "완료: " + getCompletedCount() + "/" + getTotal()
+                + ", 성공: " + getResolvedCount()
+                + ", 실패: " + getFailedCount();
+    }
+}
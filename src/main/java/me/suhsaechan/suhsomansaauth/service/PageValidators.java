@@ -0,0 +1,61 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * 정적 페이지 조건부 요청 검증값 (ETag / Last-Modified)
+ * 본문이 바뀌지 않았으면 서버가 304 와 헤더만 보내므로 전송량과 지연시간이 줄어듭니다.
+ * 여러 세션이 동시에 사용하므로 두 값을 한 번에 교체합니다.
+ */
+class PageValidators {
+
+    private volatile Validators current;
+
+    /**
+     * 저장된 검증값으로 조건부 요청 헤더 추가
+     */
+    Request.Builder apply(Request.Builder builder) {
+        Validators validators = current;
+        if (validators != null) {
+            if (validators.etag != null) {
+                builder.header("If-None-Match", validators.etag);
+            }
+            if (validators.lastModified != null) {
+                builder.header("If-Modified-Since", validators.lastModified);
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * 200 응답의 검증값 저장 (없으면 조건부 요청 안 함)
+     */
+    void update(Response response) {
+        String etag = response.header("ETag");
+        String lastModified = response.header("Last-Modified");
+        current = etag != null || lastModified != null ? new Validators(etag, lastModified) : null;
+    }
+
+    /**
+     * 검증값 폐기 (다음 요청은 전체 본문 수신)
+     */
+    void invalidate() {
+        current = null;
+    }
+
+    boolean isPresent() {
+        return current != null;
+    }
+
+    private static final class Validators {
+
+        private final String etag;
+        private final String lastModified;
+
+        private Validators(String etag, String lastModified) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+    }
+}
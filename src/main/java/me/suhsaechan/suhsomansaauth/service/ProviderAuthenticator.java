@@ -0,0 +1,297 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthProperties;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.provider.SomansaAuthProvider;
+import me.suhsaechan.suhsomansaauth.util.SomansaLogger;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * 인증 제공자 조회
+ * 한 곳이라도 직원으로 확인되면 직원, 모든 제공자가 확정적으로 거부하면 직원 아님,
+ * 그 외에는 첫 번째 오류 결과를 반환합니다.
+ *
+ * - SEQUENTIAL: 순서대로 조회하고 직원으로 확인되면 중단
+ * - FAN_OUT: 동시에 조회하고 가장 먼저 직원으로 확인된 결과를 반환, 나머지 호출은 취소
+ *
+ * 상태 확인에서 DOWN 으로 판정된 제공자는 호출하지 않고 바로 오류 결과로 처리합니다.
+ */
+class ProviderAuthenticator {
+
+    private static final SomansaLogger logger = SomansaLogger.getLogger(ProviderAuthenticator.class);
+
+    private final List<SomansaAuthProvider> providers;
+    private final SomansaAuthProperties.Provider.Mode mode;
+    private final UpstreamHttpClient upstream;
+
+    // 빠른 실패용 상태 확인 (사용하지 않으면 null)
+    private final UpstreamHealthMonitor health;
+
+    ProviderAuthenticator(List<SomansaAuthProvider> providers, SomansaAuthProperties.Provider.Mode mode,
+                          UpstreamHttpClient upstream) {
+        this(providers, mode, upstream, null);
+    }
+
+    ProviderAuthenticator(List<SomansaAuthProvider> providers, SomansaAuthProperties.Provider.Mode mode,
+                          UpstreamHttpClient upstream, UpstreamHealthMonitor health) {
+        if (providers.isEmpty()) {
+            throw new IllegalArgumentException("인증 제공자가 하나 이상 필요합니다");
+        }
+        this.providers = List.copyOf(providers);
+        this.mode = mode;
+        this.upstream = upstream;
+        this.health = health;
+    }
+
+    /**
+     * 동기 조회
+     * 제공자가 하나이면 호출 스레드에서 바로 호출하며, 호출 실패는 예외로 전달합니다.
+     */
+    SomansaAuthResult authenticate(String loginId, String password) throws IOException, InterruptedException {
+        if (providers.size() == 1) {
+            return authenticateOnce(providers.get(0), loginId, password);
+        }
+        if (mode == SomansaAuthProperties.Provider.Mode.FAN_OUT) {
+            CompletableFuture<SomansaAuthResult> future = new CompletableFuture<>();
+            AsyncOperation operation = fanOut(loginId, password, future::complete);
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                operation.cancel();
+                throw e;
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            }
+        }
+
+        SomansaAuthResult[] results = new SomansaAuthResult[providers.size()];
+        for (int i = 0; i < providers.size(); i++) {
+            SomansaAuthProvider provider = providers.get(i);
+            try {
+                results[i] = authenticateOnce(provider, loginId, password);
+            } catch (IOException e) {
+                logger.error(provider.getName() + " 인증 중 예외 발생", e);
+                results[i] = SomansaAuthResult.upstreamError(e.getMessage());
+            }
+            if (results[i].isSomansaEmployee()) {
+                return results[i];
+            }
+        }
+        return combine(results);
+    }
+
+    /**
+     * 비동기 조회 (OkHttp 디스패처 스레드에서 결과 전달)
+     *
+     * @param onComplete 인증 결과 전달 (취소된 경우 호출되지 않음)
+     */
+    AsyncOperation authenticateAsync(String loginId, String password, Consumer<SomansaAuthResult> onComplete) {
+        if (providers.size() == 1) {
+            return attempt(providers.get(0), loginId, password, onComplete);
+        }
+        if (mode == SomansaAuthProperties.Provider.Mode.FAN_OUT) {
+            return fanOut(loginId, password, onComplete);
+        }
+        AsyncOperation operation = new AsyncOperation();
+        sequentialStep(operation, 0, new SomansaAuthResult[providers.size()], loginId, password, onComplete);
+        return operation;
+    }
+
+    private SomansaAuthResult authenticateOnce(SomansaAuthProvider provider, String loginId, String password)
+            throws IOException {
+        SomansaAuthResult unavailable = unavailable(provider);
+        if (unavailable != null) {
+            return unavailable;
+        }
+        Request request = provider.createLoginRequest(loginId, password);
+        try (Response response = upstream.execute(provider.getEndpoint(), request)) {
+            return classify(provider, response);
+        }
+    }
+
+    /**
+     * 제공자 한 곳 비동기 조회
+     */
+    private AsyncOperation attempt(SomansaAuthProvider provider, String loginId, String password,
+                                   Consumer<SomansaAuthResult> onComplete) {
+        SomansaAuthResult unavailable = unavailable(provider);
+        if (unavailable != null) {
+            onComplete.accept(unavailable);
+            return AsyncOperation.completed();
+        }
+        AsyncOperation operation = new AsyncOperation();
+        Request request = provider.createLoginRequest(loginId, password);
+        upstream.enqueue(operation, upstream.client(), provider.getEndpoint(), request,
+                new UpstreamHttpClient.UpstreamCallback() {
+                    @Override
+                    public void onResponse(Response response) throws IOException {
+                        onComplete.accept(classify(provider, response));
+                    }
+
+                    @Override
+                    public void onFailure(IOException e) {
+                        if (operation.isCancelled()) {
+                            return;
+                        }
+                        logger.error(provider.getName() + " 인증 중 예외 발생", e);
+                        onComplete.accept(SomansaAuthResult.upstreamError(e.getMessage()));
+                    }
+                });
+        return operation;
+    }
+
+    private void sequentialStep(AsyncOperation operation, int index, SomansaAuthResult[] results,
+                                String loginId, String password, Consumer<SomansaAuthResult> onComplete) {
+        operation.track(attempt(providers.get(index), loginId, password, result -> {
+            results[index] = result;
+            if (result.isSomansaEmployee()) {
+                onComplete.accept(result);
+            } else if (index + 1 == providers.size()) {
+                onComplete.accept(combine(results));
+            } else if (!operation.isCancelled()) {
+                sequentialStep(operation, index + 1, results, loginId, password, onComplete);
+            }
+        }));
+    }
+
+    private AsyncOperation fanOut(String loginId, String password, Consumer<SomansaAuthResult> onComplete) {
+        FanOut fanOut = new FanOut(providers.size(), onComplete);
+        for (int i = 0; i < providers.size() && !fanOut.isCancelled(); i++) {
+            int index = i;
+            fanOut.register(index, attempt(providers.get(index), loginId, password,
+                    result -> fanOut.complete(index, result)));
+        }
+        return fanOut;
+    }
+
+    /**
+     * DOWN 으로 판정된 제공자는 타임아웃을 기다리지 않고 오류 결과 (직원 아님으로 확정하지 않음)
+     *
+     * @return 호출 가능하면 null
+     */
+    private SomansaAuthResult unavailable(SomansaAuthProvider provider) {
+        if (health == null || !health.isDown(provider.getName())) {
+            return null;
+        }
+        logger.debug(provider.getName() + " 응답 없음으로 판정되어 호출 생략");
+        return SomansaAuthResult.upstreamError(provider.getName() + " 응답 없음 (상태 확인 실패)");
+    }
+
+    /**
+     * 응답 분류 (직원이면 응답에 포함된 이름 반영)
+     */
+    private static SomansaAuthResult classify(SomansaAuthProvider provider, Response response) throws IOException {
+        String responseBody = response.body() != null ? response.body().string() : "";
+
+        logger.debug(provider.getName() + " 응답 상태 코드: " + response.code());
+        logger.debug("응답 본문 길이: " + responseBody.length());
+
+        SomansaAuthResult result = provider.classify(response.code(), responseBody);
+        if (result.isSomansaEmployee()) {
+            String userName = provider.extractUserName(responseBody);
+            if (userName != null) {
+                return result.withUserName(userName);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 직원으로 확인한 제공자가 없을 때의 결과
+     * 오류가 난 제공자가 있으면 직원일 수도 있으므로 확정 결과(직원 아님)로 보지 않습니다.
+     */
+    private static SomansaAuthResult combine(SomansaAuthResult[] results) {
+        for (SomansaAuthResult result : results) {
+            if (!result.getOutcome().isDecisive()) {
+                return result;
+            }
+        }
+        return results[0];
+    }
+
+    /**
+     * 동시 조회 상태
+     * 취소 시 진행 중인 모든 제공자 호출을 중단합니다.
+     */
+    private static final class FanOut extends AsyncOperation {
+
+        private final AsyncOperation[] attempts;
+        private final SomansaAuthResult[] results;
+        private final Consumer<SomansaAuthResult> onComplete;
+
+        // 아직 응답하지 않은 제공자 수
+        private int remaining;
+
+        // 직원으로 확인한 제공자 (없으면 -1)
+        private int winner = -1;
+
+        private FanOut(int size, Consumer<SomansaAuthResult> onComplete) {
+            this.attempts = new AsyncOperation[size];
+            this.results = new SomansaAuthResult[size];
+            this.onComplete = onComplete;
+            this.remaining = size;
+        }
+
+        /**
+         * 시작한 제공자 호출 등록 (이미 결과가 나왔으면 바로 취소)
+         */
+        private void register(int index, AsyncOperation attempt) {
+            boolean decided;
+            synchronized (this) {
+                attempts[index] = attempt;
+                decided = winner >= 0 && winner != index;
+            }
+            if (decided) {
+                attempt.cancel();
+            }
+        }
+
+        private void complete(int index, SomansaAuthResult result) {
+            SomansaAuthResult outcome;
+            synchronized (this) {
+                if (winner >= 0 || remaining == 0 || isCancelled()) {
+                    return;
+                }
+                results[index] = result;
+                remaining--;
+                if (result.isSomansaEmployee()) {
+                    winner = index;
+                    outcome = result;
+                } else if (remaining == 0) {
+                    outcome = combine(results);
+                } else {
+                    return;
+                }
+            }
+            if (outcome == result && result.isSomansaEmployee()) {
+                cancelOthers(index);
+            }
+            onComplete.accept(outcome);
+        }
+
+        private void cancelOthers(int index) {
+            AsyncOperation[] started;
+            synchronized (this) {
+                started = attempts.clone();
+            }
+            for (int i = 0; i < started.length; i++) {
+                if (i != index && started[i] != null) {
+                    started[i].cancel();
+                }
+            }
+        }
+
+        @Override
+        void cancel() {
+            super.cancel();
+            cancelOthers(-1);
+        }
+    }
+}
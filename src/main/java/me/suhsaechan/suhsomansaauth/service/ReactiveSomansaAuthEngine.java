@@ -0,0 +1,60 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import reactor.core.publisher.Mono;
+
+/**
+ * 소만사 인증 엔진 리액티브 파사드 (WebFlux 용)
+ * boundedElastic 으로 블로킹 호출을 넘기지 않고 OkHttp 비동기 호출 위에서 동작합니다.
+ * 구독이 취소되면 진행 중인 OkHttp 호출도 함께 중단됩니다.
+ * HTTP 클라이언트 등 구성요소는 첫 구독이 아닌 파사드 생성 시 만들고,
+ * 블로킹 캐시(Redis, 디스크)는 엔진의 캐시 전용 스레드에서 조회하므로 구독 스레드를 막지 않습니다.
+ * 외부 시스템 오류와 응답 처리 오류는 UPSTREAM_ERROR 결과로, 요청을 시작하지 못한 오류는 에러 신호로 완료됩니다.
+ * Reactor 는 선택 의존성이므로 클래스패스에 reactor-core 가 있어야 사용할 수 있습니다.
+ */
+public class ReactiveSomansaAuthEngine {
+
+    private final SomansaAuthEngine engine;
+
+    public ReactiveSomansaAuthEngine(SomansaAuthEngine engine) {
+        this.engine = engine;
+        // 지연 초기화 설정이어도 이벤트 루프에서 클라이언트를 생성하지 않도록 미리 생성
+        engine.initialize();
+    }
+
+    /**
+     * 소만사 직원 여부 확인
+     *
+     * @param loginId 로그인 ID (이메일 또는 사용자명)
+     * @param password 비밀번호
+     * @return 인증 결과 (구독 시 요청 전송)
+     */
+    public Mono<SomansaAuthResult> isSomansaEmployee(String loginId, String password) {
+        return Mono.create(sink -> {
+            try {
+                AsyncOperation operation = engine.isSomansaEmployeeAsync(loginId, password, sink::success);
+                sink.onCancel(operation::cancel);
+            } catch (RuntimeException e) {
+                sink.error(e);
+            }
+        });
+    }
+
+    /**
+     * 소만사 직원 정보 확인 (이름 포함)
+     *
+     * @param loginId 로그인 ID (이메일 또는 사용자명)
+     * @param password 비밀번호
+     * @return 인증 결과 (사용자 이름 포함, 구독 시 요청 전송)
+     */
+    public Mono<SomansaAuthResult> getSomansaEmployeeInfo(String loginId, String password) {
+        return Mono.create(sink -> {
+            try {
+                AsyncOperation operation = engine.getSomansaEmployeeInfoAsync(loginId, password, sink::success);
+                sink.onCancel(operation::cancel);
+            } catch (RuntimeException e) {
+                sink.error(e);
+            }
+        });
+    }
+}
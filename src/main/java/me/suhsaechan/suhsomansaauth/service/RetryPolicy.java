@@ -0,0 +1,132 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthProperties;
+import me.suhsaechan.suhsomansaauth.util.RetryBudget;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 일시적 장애 재시도 정책
+ *
+ * - 로그인 (Mattermost 및 그 외 제공자): 요청이 서버에 도달하지 않은 연결 실패와 게이트웨이 오류(502/503/504)만 재시도
+ * - 버스 시스템 단계: 이름 조회 전용이므로 5xx 응답과 읽기 타임아웃을 제외한 I/O 실패를 재시도
+ *   (읽기 타임아웃은 이미 타임아웃만큼 기다린 뒤라 재시도하면 인증 응답이 그 배수로 늦어짐)
+ *
+ * 대기 시간은 decorrelated jitter (min(maxDelay, random(baseDelay, 직전 대기 × 3))) 로 산정하고,
+ * 재시도마다 공유 예산에서 토큰을 소모합니다.
+ */
+class RetryPolicy {
+
+    private final SomansaAuthProperties.Retry config;
+    private final RetryBudget budget;
+    private final RetryStats stats;
+
+    RetryPolicy(SomansaAuthProperties.Retry config, RetryStats stats) {
+        this.config = config;
+        this.budget = new RetryBudget(config.getBudgetRatio(), config.getBudgetMaxTokens());
+        this.stats = stats;
+    }
+
+    /**
+     * 최초 요청 시작 (예산 적립)
+     */
+    Attempts begin(SomansaEndpoint endpoint) {
+        stats.recordRequest(endpoint);
+        budget.deposit();
+        return new Attempts(endpoint);
+    }
+
+    boolean isRetryable(SomansaEndpoint endpoint, IOException e) {
+        if (!config.isEnabled()) {
+            return false;
+        }
+        if (!isLogin(endpoint)) {
+            return isConnectFailure(e) || !isTimeout(e);
+        }
+        return isConnectFailure(e);
+    }
+
+    boolean isRetryable(SomansaEndpoint endpoint, int code) {
+        if (!config.isEnabled()) {
+            return false;
+        }
+        if (!isLogin(endpoint)) {
+            return code >= 500;
+        }
+        return code == 502 || code == 503 || code == 504;
+    }
+
+    RetryBudget budget() {
+        return budget;
+    }
+
+    private static boolean isLogin(SomansaEndpoint endpoint) {
+        return endpoint == SomansaEndpoint.MATTERMOST_LOGIN || endpoint == SomansaEndpoint.PROVIDER_LOGIN;
+    }
+
+    private static boolean isConnectFailure(IOException e) {
+        if (e instanceof ConnectException || e instanceof NoRouteToHostException || e instanceof UnknownHostException) {
+            return true;
+        }
+        // OkHttp 연결 타임아웃 ("connect timed out")
+        return e instanceof SocketTimeoutException && e.getMessage() != null
+                && e.getMessage().toLowerCase(Locale.ROOT).contains("connect timed out");
+    }
+
+    /**
+     * 읽기/호출 타임아웃 (SocketTimeoutException 과 OkHttp callTimeout 의 InterruptedIOException)
+     */
+    private static boolean isTimeout(IOException e) {
+        return e instanceof InterruptedIOException;
+    }
+
+    /**
+     * 요청 1건의 재시도 상태
+     */
+    final class Attempts {
+
+        private final SomansaEndpoint endpoint;
+        private int attempt = 1;
+        private long lastDelayMillis;
+
+        private Attempts(SomansaEndpoint endpoint) {
+            this.endpoint = endpoint;
+            this.lastDelayMillis = config.getBaseDelay().toMillis();
+        }
+
+        /**
+         * 다음 재시도까지 대기 시간
+         *
+         * @return 최대 시도 횟수 도달 또는 예산 부족이면 -1
+         */
+        long nextDelayMillis() {
+            if (attempt >= config.getMaxAttempts()) {
+                stats.recordAttemptsExhausted(endpoint);
+                return -1;
+            }
+            if (!budget.tryWithdraw()) {
+                stats.recordBudgetExhausted(endpoint);
+                return -1;
+            }
+            attempt++;
+            stats.recordRetry(endpoint);
+
+            long base = config.getBaseDelay().toMillis();
+            long upper = Math.max(base, lastDelayMillis * 3);
+            long delay = upper > base ? ThreadLocalRandom.current().nextLong(base, upper + 1) : base;
+            lastDelayMillis = Math.min(config.getMaxDelay().toMillis(), delay);
+            return lastDelayMillis;
+        }
+
+        int attempt() {
+            return attempt;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트별 재시도 통계
+ * 최초 요청 수, 재시도 수, 예산 부족으로 재시도하지 못한 횟수, 최대 시도 횟수 도달 횟수를 집계합니다.
+ */
+public class RetryStats {
+
+    private final Map<SomansaEndpoint, AtomicLong> requests = newCounters();
+    private final Map<SomansaEndpoint, AtomicLong> retries = newCounters();
+    private final Map<SomansaEndpoint, AtomicLong> budgetExhausted = newCounters();
+    private final Map<SomansaEndpoint, AtomicLong> attemptsExhausted = newCounters();
+
+    void recordRequest(SomansaEndpoint endpoint) {
+        requests.get(endpoint).incrementAndGet();
+    }
+
+    void recordRetry(SomansaEndpoint endpoint) {
+        retries.get(endpoint).incrementAndGet();
+    }
+
+    void recordBudgetExhausted(SomansaEndpoint endpoint) {
+        budgetExhausted.get(endpoint).incrementAndGet();
+    }
+
+    void recordAttemptsExhausted(SomansaEndpoint endpoint) {
+        attemptsExhausted.get(endpoint).incrementAndGet();
+    }
+
+    public long getRequests(SomansaEndpoint endpoint) {
+        return requests.get(endpoint).get();
+    }
+
+    public long getRetries(SomansaEndpoint endpoint) {
+        return retries.get(endpoint).get();
+    }
+
+    public long getBudgetExhausted(SomansaEndpoint endpoint) {
+        return budgetExhausted.get(endpoint).get();
+    }
+
+    public long getAttemptsExhausted(SomansaEndpoint endpoint) {
+        return attemptsExhausted.get(endpoint).get();
+    }
+
+    /**
+     * 전체 재시도 수
+     */
+    public long getTotalRetries() {
+        return sum(retries);
+    }
+
+    /**
+     * 예산 부족으로 재시도하지 못한 전체 횟수
+     */
+    public long getTotalBudgetExhausted() {
+        return sum(budgetExhausted);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("RetryStats{retries=").append(getTotalRetries())
+                .append(", budgetExhausted=").append(getTotalBudgetExhausted());
+        for (SomansaEndpoint endpoint : SomansaEndpoint.values()) {
+            sb.append(", ").append(endpoint).append("=[requests=").append(getRequests(endpoint))
+                    .append(", retries=").append(getRetries(endpoint))
+                    .append(", budgetExhausted=").append(getBudgetExhausted(endpoint))
+                    .append(", attemptsExhausted=").append(getAttemptsExhausted(endpoint)).append(']');
+        }
+        return sb.append('}').toString();
+    }
+
+    private static long sum(Map<SomansaEndpoint, AtomicLong> counters) {
+        long total = 0;
+        for (AtomicLong counter : counters.values()) {
+            total += counter.get();
+        }
+        return total;
+    }
+
+    private static Map<SomansaEndpoint, AtomicLong> newCounters() {
+        Map<SomansaEndpoint, AtomicLong> counters = new EnumMap<>(SomansaEndpoint.class);
+        for (SomansaEndpoint endpoint : SomansaEndpoint.values()) {
+            counters.put(endpoint, new AtomicLong());
+        }
+        return counters;
+    }
+}
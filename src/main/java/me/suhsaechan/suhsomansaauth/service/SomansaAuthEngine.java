@@ -1,72 +1,424 @@
 package me.suhsaechan.suhsomansaauth.service;
 
+import me.suhsaechan.suhsomansaauth.cache.InMemoryAuthCache;
+import me.suhsaechan.suhsomansaauth.cache.PersistentAuthStore;
+import me.suhsaechan.suhsomansaauth.cache.SharedMemoryAuthCache;
+import me.suhsaechan.suhsomansaauth.cache.SomansaAuthCache;
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthProperties;
+import me.suhsaechan.suhsomansaauth.dto.NameResolution;
 import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.provider.MattermostAuthProvider;
+import me.suhsaechan.suhsomansaauth.provider.SomansaAuthProvider;
+import me.suhsaechan.suhsomansaauth.traffic.TrafficRecorder;
+import me.suhsaechan.suhsomansaauth.traffic.TrafficReplayer;
+import me.suhsaechan.suhsomansaauth.util.MaskUtil;
+import me.suhsaechan.suhsomansaauth.util.RateLimiter;
 import me.suhsaechan.suhsomansaauth.util.SomansaLogger;
 import okhttp3.*;
-import org.springframework.stereotype.Service;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
+import okhttp3.brotli.BrotliInterceptor;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * 소만사 인증 엔진
- * 소만사 Mattermost 로그인을 통한 직원 인증 확인
+ * 소만사 Mattermost 로그인(또는 지정한 인증 제공자)을 통한 직원 인증 확인
  */
-@Service
 public class SomansaAuthEngine {
     
     private static final SomansaLogger logger = SomansaLogger.getLogger(SomansaAuthEngine.class);
     
-    private static final String LOGIN_URL = "https://mattermost.somansa.com/api/v4/users/login";
-    private static final String MFA_ERROR_ID = "mfa.validate_token.authenticate.app_error";
-    private static final String INVALID_CREDENTIALS_ID = "api.user.login.invalid_credentials_email_username";
+    private final SomansaAuthProperties properties;
     
-    // 버스 예약 시스템 엔드포인트 
-    private static final String BUS_LOGIN_PAGE_URL = "https://cs.android.busin.co.kr/Login.aspx?device=";
-    private static final String BUS_LOGIN_API_URL = "https://cs.android.busin.co.kr/Login.aspx/LoginCheck";
-    private static final String BUS_CREATE_SESSION_URL = "https://cs.android.busin.co.kr/Default.aspx/CreateSession";
-    private static final String BUS_HOME_URL = "https://cs.android.busin.co.kr/Home.aspx#";
+    // 호스트 애플리케이션이 제공한 OkHttpClient (커넥션 풀/디스패처 공유용, 없으면 null)
+    private final OkHttpClient sharedHttpClient;
     
-    private final OkHttpClient httpClient;
+    private final AdaptiveTimeoutPolicy timeoutPolicy;
+    private final BusSessionStats busSessionStats = new BusSessionStats();
+    
+    // 일시적 장애 재시도 (예산은 엔진 단위로 공유)
+    private final RetryStats retryStats = new RetryStats();
+    private final RetryPolicy retryPolicy;
+    
+    // 작업 등급별 수용 제어 (인증 > 이름 보강 > 일괄 조회)
+    private final AdmissionStats admissionStats = new AdmissionStats();
+    private final AdmissionController admission;
+    
+    // 일괄 이름 조회 속도 제한기 (모든 작업이 공유)
+    private final RateLimiter bulkRateLimiter;
+    
+    // 인증 결과/이름 캐시 (비활성화 시 null)
+    private final SomansaAuthCache cache;
+    
+    // 설정으로 직접 만든 캐시만 엔진 종료 시 닫음
+    private final boolean ownsCache;
+    
+    // 비동기 경로에서 블로킹 캐시(Redis, 디스크)를 호출하는 전용 스레드 (메모리 캐시면 null)
+    private final ExecutorService cacheExecutor;
+    
+    // 직원 인증 제공자 (기본값: 설정한 Mattermost 인스턴스)
+    private final List<SomansaAuthProvider> providers;
+    
+    // HTTP 클라이언트 등 무거운 구성요소 (지연 초기화 시 첫 호출에서 생성)
+    private volatile EngineRuntime runtime;
+    
+    // 외부 호출 녹화 (RECORD 모드에서 런타임 생성 시 열림, 엔진 종료 시 닫음)
+    private TrafficRecorder trafficRecorder;
     
     public SomansaAuthEngine() {
-        // HTTP 클라이언트 설정 (쿠키 지원 추가)
-        this.httpClient = new OkHttpClient.Builder()
-                .connectTimeout(10, TimeUnit.SECONDS)
-                .readTimeout(30, TimeUnit.SECONDS)
-                .writeTimeout(30, TimeUnit.SECONDS)
-                .cookieJar(new SimpleCookieJar())
+        this(new SomansaAuthProperties());
+    }
+    
+    public SomansaAuthEngine(SomansaAuthProperties properties) {
+        this(properties, null);
+    }
+    
+    /**
+     * @param properties 엔진 설정
+     * @param sharedHttpClient 공유할 OkHttpClient (newBuilder() 로 파생해 커넥션 풀/디스패처를 공유), 없으면 null
+     */
+    public SomansaAuthEngine(SomansaAuthProperties properties, OkHttpClient sharedHttpClient) {
+        this(properties, sharedHttpClient, null);
+    }
+    
+    /**
+     * @param properties 엔진 설정
+     * @param sharedHttpClient 공유할 OkHttpClient (newBuilder() 로 파생해 커넥션 풀/디스패처를 공유), 없으면 null
+     * @param cache 사용할 캐시 구현 (Redis 어댑터 등), 없으면 null 로 두고 somansa.auth.cache 설정을 따름
+     */
+    public SomansaAuthEngine(SomansaAuthProperties properties, OkHttpClient sharedHttpClient, SomansaAuthCache cache) {
+        this(properties, sharedHttpClient, cache, null);
+    }
+    
+    /**
+     * @param properties 엔진 설정
+     * @param sharedHttpClient 공유할 OkHttpClient (newBuilder() 로 파생해 커넥션 풀/디스패처를 공유), 없으면 null
+     * @param cache 사용할 캐시 구현 (Redis 어댑터 등), 없으면 null 로 두고 somansa.auth.cache 설정을 따름
+     * @param providers 직원 인증 제공자 (조회 순서), 없으면 null 로 두고 somansa.auth.provider 설정을 따름
+     */
+    public SomansaAuthEngine(SomansaAuthProperties properties, OkHttpClient sharedHttpClient, SomansaAuthCache cache,
+                             List<SomansaAuthProvider> providers) {
+        this.properties = properties;
+        this.sharedHttpClient = sharedHttpClient;
+        this.timeoutPolicy = new AdaptiveTimeoutPolicy(properties.getTimeout().getAdaptive());
+        this.retryPolicy = new RetryPolicy(properties.getRetry(), retryStats);
+        this.admission = new AdmissionController(properties.getAdmission(), admissionStats);
+        this.bulkRateLimiter = new RateLimiter(properties.getBulk().getRequestsPerSecond());
+        // 캐시는 재시작 직후부터 응답하도록 지연 초기화와 무관하게 바로 로드
+        this.ownsCache = cache == null;
+        this.cache = cache != null ? cache : createCache(properties.getCache());
+        this.cacheExecutor = this.cache != null && this.cache.isBlocking()
+                ? createCacheExecutor(properties.getHttp().getMaxRequests())
+                : null;
+        this.providers = providers != null && !providers.isEmpty()
+                ? List.copyOf(providers)
+                : createProviders(properties.getProvider());
+        
+        if (!properties.isLazyInit()) {
+            runtime();
+        }
+    }
+    
+    /**
+     * 지연 초기화 구성요소를 미리 생성 (리액티브 파사드가 이벤트 루프에서 생성하지 않도록 사용)
+     */
+    void initialize() {
+        runtime();
+    }
+    
+    /**
+     * HTTP 클라이언트 등 구성요소 (최초 호출 시 생성)
+     */
+    private EngineRuntime runtime() {
+        EngineRuntime current = runtime;
+        if (current == null) {
+            synchronized (this) {
+                current = runtime;
+                if (current == null) {
+                    current = createRuntime();
+                    runtime = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    private EngineRuntime createRuntime() {
+        SomansaAuthProperties.Timeout timeout = properties.getTimeout();
+        
+        // HTTP 클라이언트 설정
+        // 고정 타임아웃은 적응형 타임아웃이 적용되지 않을 때의 기본값
+        // 쿠키는 버스 시스템 세션 단위로만 보관 (Mattermost 로그인은 쿠키 불필요)
+        OkHttpClient.Builder builder;
+        if (sharedHttpClient != null) {
+            // 커넥션 풀과 디스패처는 호스트 클라이언트 것을 그대로 사용
+            builder = sharedHttpClient.newBuilder();
+        } else {
+            builder = new OkHttpClient.Builder()
+                    .dispatcher(createDispatcher(properties.getHttp()));
+        }
+        // 응답 압축: Accept-Encoding 을 직접 지정하지 않으므로 OkHttp 가 gzip 을 협상하고 해제하며,
+        // brotli 인터셉터는 br 을 우선 협상 (호스트 클라이언트에 이미 있으면 중복 추가하지 않음)
+        if (properties.getHttp().isBrotli() && !builder.interceptors().contains(BrotliInterceptor.INSTANCE)) {
+            builder.addInterceptor(BrotliInterceptor.INSTANCE);
+        }
+        // 녹화/재생은 압축 해제된 본문을 다루도록 가장 바깥 인터셉터로 등록
+        Interceptor traffic = createTrafficInterceptor(properties.getTraffic());
+        if (traffic != null) {
+            builder.interceptors().add(0, traffic);
+        }
+        if (traffic instanceof TrafficReplayer) {
+            // 재생 지연 중 취소가 바로 반영되도록 취소 이벤트 연결
+            EventListener.Factory listeners = sharedHttpClient != null
+                    ? sharedHttpClient.eventListenerFactory()
+                    : call -> EventListener.NONE;
+            builder.eventListenerFactory(((TrafficReplayer) traffic).cancellationListener(listeners));
+        }
+        OkHttpClient httpClient = builder
+                .connectTimeout(timeout.getConnect().toMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(timeout.getRead().toMillis(), TimeUnit.MILLISECONDS)
+                .writeTimeout(timeout.getWrite().toMillis(), TimeUnit.MILLISECONDS)
+                .cookieJar(CookieJar.NO_COOKIES)
                 .build();
         
+        EngineRuntime created = new EngineRuntime(httpClient, timeoutPolicy, retryPolicy, busSessionStats,
+                properties.getBus(), providers, properties.getProvider().getMode(), createHealthMonitor(httpClient, traffic));
         logger.info("소만사 인증 서비스 초기화 완료");
+        return created;
     }
     
     /**
-     * 간단한 쿠키 저장소 구현
+     * 녹화/재생 인터셉터 생성
+     * 녹화 파일을 열 수 없으면 녹화 없이 동작하지만, 재생 파일을 읽을 수 없으면 실제 호출로 넘어가지 않도록 실패합니다.
      */
-    private static class SimpleCookieJar implements CookieJar {
-        private final java.util.List<Cookie> cookieStore = new java.util.ArrayList<>();
-
-        @Override
-        public void saveFromResponse(HttpUrl url, java.util.List<Cookie> cookies) {
-            cookieStore.addAll(cookies);
-        }
-
-        @Override
-        public java.util.List<Cookie> loadForRequest(HttpUrl url) {
-            java.util.List<Cookie> validCookies = new java.util.ArrayList<>();
-            for (Cookie cookie : cookieStore) {
-                if (cookie.matches(url)) {
-                    validCookies.add(cookie);
+    private Interceptor createTrafficInterceptor(SomansaAuthProperties.Traffic config) {
+        Path file = Paths.get(config.getFile());
+        switch (config.getMode()) {
+            case RECORD:
+                try {
+                    trafficRecorder = TrafficRecorder.open(file, config.getMaxBodyBytes());
+                    return trafficRecorder;
+                } catch (IOException e) {
+                    logger.error("녹화 파일 열기 실패 - 녹화 없이 동작", e);
+                    return null;
+                }
+            case REPLAY:
+                try {
+                    return TrafficReplayer.load(file, config.getReplaySpeed(), config.isReplayLoop());
+                } catch (IOException e) {
+                    throw new IllegalStateException("재생 파일을 읽을 수 없습니다: " + file, e);
                 }
+            default:
+                return null;
+        }
+    }
+    
+    /**
+     * 외부 시스템 상태 확인 (비활성화 시 null)
+     * 재생 모드에서는 녹화되지 않은 확인 요청이 모두 실패로 판정되므로 시작하지 않습니다.
+     * 녹화 모드에서는 주기적 확인 요청이 녹화 파일에 섞이지 않도록 녹화 인터셉터를 뺀 클라이언트로 확인합니다.
+     */
+    private UpstreamHealthMonitor createHealthMonitor(OkHttpClient httpClient, Interceptor traffic) {
+        if (!properties.getHealth().isEnabled()) {
+            return null;
+        }
+        if (properties.getTraffic().getMode() == SomansaAuthProperties.Traffic.Mode.REPLAY) {
+            logger.info("재생 모드 - 외부 시스템 상태 확인 생략");
+            return null;
+        }
+        OkHttpClient.Builder probeBuilder = httpClient.newBuilder();
+        if (traffic != null) {
+            probeBuilder.interceptors().remove(traffic);
+        }
+        return new UpstreamHealthMonitor(probeBuilder.build(), properties.getHealth(), providers);
+    }
+    
+    private static List<SomansaAuthProvider> createProviders(SomansaAuthProperties.Provider config) {
+        List<SomansaAuthProvider> created = new ArrayList<>();
+        for (String url : config.getMattermostUrls()) {
+            created.add(new MattermostAuthProvider(url));
+        }
+        if (created.isEmpty()) {
+            created.add(new MattermostAuthProvider());
+        }
+        return List.copyOf(created);
+    }
+    
+    /**
+     * 블로킹 캐시 호출용 스레드 풀 (유휴 스레드는 정리)
+     */
+    private static ExecutorService createCacheExecutor(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread thread = new Thread(r, "somansa-auth-cache-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+    
+    private static SomansaAuthCache createCache(SomansaAuthProperties.Cache config) {
+        try {
+            switch (config.getType()) {
+                case MEMORY:
+                    return new InMemoryAuthCache(config.getVerdictTtl(), config.getNameTtl(), config.getMaxEntries());
+                case SHARED:
+                    return SharedMemoryAuthCache.open(Paths.get(config.getDirectory()), config.getVerdictTtl(),
+                            config.getNameTtl(), config.getMaxEntries());
+                case PERSISTENT:
+                    return PersistentAuthStore.open(Paths.get(config.getDirectory()), config.getVerdictTtl(),
+                            config.getNameTtl(), config.getMaxEntries(), config.getCompactionInterval());
+                default:
+                    return null;
+            }
+        } catch (IOException e) {
+            // 디렉토리를 다른 프로세스가 사용 중인 경우 등 - 프로세스 내 캐시로 대체
+            logger.error("인증 캐시 열기 실패 - 메모리 캐시로 동작", e);
+            return new InMemoryAuthCache(config.getVerdictTtl(), config.getNameTtl(), config.getMaxEntries());
+        }
+    }
+    
+    /**
+     * 엔진 종료 (설정으로 생성한 캐시, 녹화 파일 닫기, 상태 확인 중단)
+     */
+    public void close() {
+        EngineRuntime current = runtime;
+        if (current != null && current.healthMonitor != null) {
+            current.healthMonitor.close();
+        }
+        if (cacheExecutor != null) {
+            cacheExecutor.shutdown();
+        }
+        if (cache != null && ownsCache) {
+            try {
+                cache.close();
+            } catch (IOException e) {
+                logger.error("인증 캐시 닫기 실패", e);
+            }
+        }
+        TrafficRecorder recorder;
+        synchronized (this) {
+            recorder = trafficRecorder;
+        }
+        if (recorder != null) {
+            try {
+                recorder.close();
+            } catch (IOException e) {
+                logger.error("녹화 파일 닫기 실패", e);
             }
-            return validCookies;
         }
     }
     
+    /**
+     * 비동기 호출 디스패처 (동시 요청 수 상한)
+     */
+    private static Dispatcher createDispatcher(SomansaAuthProperties.Http http) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(http.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(http.getMaxRequestsPerHost());
+        return dispatcher;
+    }
+    
+    /**
+     * 지연 초기화 대상 구성요소 묶음
+     */
+    private static final class EngineRuntime {
+        
+        private final UpstreamHttpClient upstream;
+        
+        // 직원 인증 제공자 조회 (순차 또는 동시)
+        private final ProviderAuthenticator authenticator;
+        
+        // 버스 시스템 이름 조회 (세션 재사용 상태 머신)
+        private final BusSessionPool busSessionPool;
+        private final BusSessionFlow busSessionFlow;
+        
+        // 외부 시스템 상태 확인 (비활성화 시 null)
+        private final UpstreamHealthMonitor healthMonitor;
+        
+        // 빠른 실패에 사용할 상태 확인 (빠른 실패를 끄면 null)
+        private final UpstreamHealthMonitor failFast;
+        
+        private EngineRuntime(OkHttpClient httpClient, AdaptiveTimeoutPolicy timeoutPolicy, RetryPolicy retryPolicy,
+                              BusSessionStats busSessionStats, SomansaAuthProperties.Bus bus,
+                              List<SomansaAuthProvider> providers, SomansaAuthProperties.Provider.Mode mode,
+                              UpstreamHealthMonitor healthMonitor) {
+            this.upstream = new UpstreamHttpClient(httpClient, timeoutPolicy, retryPolicy);
+            this.healthMonitor = healthMonitor;
+            this.failFast = healthMonitor != null && healthMonitor.isFailFast() ? healthMonitor : null;
+            this.authenticator = new ProviderAuthenticator(providers, mode, upstream, failFast);
+            this.busSessionPool = new BusSessionPool(httpClient, bus.getMaxIdleSessions(), bus.getSessionIdleTimeout().toMillis());
+            this.busSessionFlow = new BusSessionFlow(upstream, busSessionStats);
+        }
+        
+        /**
+         * 버스 시스템이 DOWN 으로 판정되어 이름 조회를 생략해야 하는지
+         */
+        private boolean isBusDown() {
+            return failFast != null && failFast.isDown(UpstreamHealthMonitor.BUS_SYSTEM);
+        }
+    }
+    
+    /**
+     * 엔드포인트별 적응형 타임아웃 정책 (현재 타임아웃/관측 지연시간 조회용)
+     */
+    public AdaptiveTimeoutPolicy getTimeoutPolicy() {
+        return timeoutPolicy;
+    }
+    
+    /**
+     * 엔드포인트별 재시도 통계 (재시도 수, 예산 부족 횟수)
+     */
+    public RetryStats getRetryStats() {
+        return retryStats;
+    }
+    
+    /**
+     * 작업 등급별 수용/제거 통계
+     */
+    public AdmissionStats getAdmissionStats() {
+        return admissionStats;
+    }
+    
+    /**
+     * 현재 남은 재시도 예산 (토큰 수)
+     */
+    public double getRetryBudgetBalance() {
+        return retryPolicy.budget().getBalance();
+    }
+    
+    /**
+     * 버스 시스템 이름 조회 단계별 통계 (생략/재시도 횟수, 절약된 호출 수)
+     */
+    public BusSessionStats getBusSessionStats() {
+        return busSessionStats;
+    }
+    
+    /**
+     * 외부 시스템별 상태 (주기적 상태 확인 결과, 조회 시 외부 호출 없음)
+     * 지연 초기화 중이면 이 호출로 HTTP 클라이언트와 상태 확인이 시작됩니다.
+     * 
+     * @return somansa.auth.health.enabled=false 이면 빈 목록
+     */
+    public List<UpstreamHealth> getUpstreamHealth() {
+        UpstreamHealthMonitor monitor = runtime().healthMonitor;
+        return monitor != null ? monitor.snapshot() : List.of();
+    }
+    
     /**
      * 소만사 직원 여부 확인
      * 
@@ -75,33 +427,37 @@ public class SomansaAuthEngine {
      * @return 인증 결과
      */
     public SomansaAuthResult isSomansaEmployee(String loginId, String password) {
-        logger.info("소만사 직원 인증 시작 - loginId: " + maskLoginId(loginId));
+        logger.info("소만사 직원 인증 시작 - loginId: " + MaskUtil.maskLoginId(loginId));
         
         try {
             // 입력값 검증
-            if (loginId == null || loginId.trim().isEmpty()) {
-                logger.warn("로그인 ID가 비어있음");
-                return SomansaAuthResult.exception("로그인 ID가 필요합니다");
+            SomansaAuthResult invalid = validateInput(loginId, password);
+            if (invalid != null) {
+                return invalid;
             }
             
-            if (password == null || password.trim().isEmpty()) {
-                logger.warn("비밀번호가 비어있음");
-                return SomansaAuthResult.exception("비밀번호가 필요합니다");
+            // 캐시된 인증 결과 확인
+            SomansaAuthResult cached = cachedVerdict(loginId, password);
+            if (cached != null) {
+                return cached;
             }
             
-            // 로그인 요청 생성 및 전송
-            String jsonPayload = createLoginPayload(loginId.trim(), password);
-            Request request = createHttpRequest(jsonPayload);
-            
             logger.debug("소만사 서버에 인증 요청 전송");
             
-            try (Response response = httpClient.newCall(request).execute()) {
-                return processResponse(response);
+            AdmissionController.Ticket ticket = admission.acquire(WorkClass.INTERACTIVE);
+            if (ticket == null) {
+                return SomansaAuthResult.RATE_LIMITED;
+            }
+            try (ticket) {
+                return rememberVerdict(loginId, password, runtime().authenticator.authenticate(loginId.trim(), password));
             }
             
         } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
             logger.error("소만사 인증 중 예외 발생", e);
-            return SomansaAuthResult.exception("인증 중 오류가 발생했습니다: " + e.getMessage());
+            return SomansaAuthResult.upstreamError(e.getMessage());
         }
     }
     
@@ -114,7 +470,7 @@ public class SomansaAuthEngine {
      * @return 인증 결과 (사용자 이름 포함)
      */
     public SomansaAuthResult getSomansaEmployeeInfo(String loginId, String password) {
-        logger.info("소만사 직원 정보 조회 시작 - loginId: " + maskLoginId(loginId));
+        logger.info("소만사 직원 정보 조회 시작 - loginId: " + MaskUtil.maskLoginId(loginId));
         
         // 1. 먼저 Mattermost 인증 수행
         SomansaAuthResult authResult = isSomansaEmployee(loginId, password);
@@ -124,356 +480,370 @@ public class SomansaAuthEngine {
             return authResult; // 인증 실패 시 그대로 반환
         }
         
+        if (authResult.getUserName() != null) {
+            return authResult; // 인증 응답에 이름이 포함된 경우
+        }
+        
         logger.debug("Mattermost 인증 성공 - 사용자 이름 조회 시작");
         
         // 2. 버스 시스템에서 사용자 이름 조회 (도메인 추가)
-        String busLoginId = loginId.contains("@") ? loginId : loginId + "@somansa.com";
-        String userName = getBusSystemUserName(busLoginId);
+        String userName = getBusSystemUserName(toBusLoginId(loginId));
         
-        if (userName != null) {
-            logger.info("Mattermost 인증 성공 - 사용자 이름: " + userName);
-            return SomansaAuthResult.success(
-                authResult.getMessage() + " (이름: " + userName + ")", 
-                authResult.getRequestId(), 
-                userName
-            );
-        } else {
-            logger.info("Mattermost 인증 성공");
-            logger.debug("사용자 이름 조회 실패 - 기본 결과 반환");
-            return authResult; // 이름 조회 실패해도 인증은 성공이므로 기본 결과 반환
-        }
+        return withUserName(authResult, userName);
     }
     
     /**
-     * 버스 시스템에서 사용자 이름을 가져옵니다.
+     * 소만사 직원 여부 확인 (비동기)
+     * 호출 스레드를 점유하지 않으며, 결과는 OkHttp 디스패처 스레드에서 전달됩니다.
      * 
-     * @param loginId 로그인 ID
-     * @return 사용자 이름, 실패 시 null
+     * @param onComplete 인증 결과 전달 (취소된 경우 호출되지 않음)
+     * @return 취소 시 진행 중인 HTTP 호출도 중단
      */
-    private String getBusSystemUserName(String loginId) {
-        try {
-            logger.debug("사용자 이름 조회를 위한 추가 인증 시작");
-            
-            // 1. 로그인 페이지 GET (세션 쿠키 획득)
-            if (!getBusLoginPage()) {
-                return null;
+    AsyncOperation isSomansaEmployeeAsync(String loginId, String password, Consumer<SomansaAuthResult> onComplete) {
+        logger.info("소만사 직원 인증 시작 - loginId: " + MaskUtil.maskLoginId(loginId));
+        
+        SomansaAuthResult invalid = validateInput(loginId, password);
+        if (invalid != null) {
+            onComplete.accept(invalid);
+            return AsyncOperation.completed();
+        }
+        
+        AsyncOperation operation = new AsyncOperation();
+        ProviderAuthenticator authenticator = runtime().authenticator;
+        lookupCacheAsync(() -> cachedVerdict(loginId, password), cached -> {
+            if (operation.isCancelled()) {
+                return;
             }
-            
-            // 2. 버스 시스템 로그인
-            int passengerId = performBusLogin(loginId);
-            if (passengerId <= 0) {
-                logger.debug("추가 인증 실패");
-                return null;
+            if (cached != null) {
+                onComplete.accept(cached);
+                return;
             }
             
-            // 3. CreateSession 두 번 호출
-            createBusSession(loginId, passengerId);
-            
-            // 4. Home 페이지에서 사용자 이름 추출
-            return extractUserNameFromBusHome();
+            logger.debug("소만사 서버에 인증 요청 전송");
             
-        } catch (Exception e) {
-            logger.debug("사용자 이름 조회 중 예외 발생", e);
-            return null;
-        }
-    }
-    
-    /**
-     * 버스 시스템 로그인 페이지 GET
-     */
-    private boolean getBusLoginPage() {
-        try {
-            Request request = new Request.Builder()
-                    .url(BUS_LOGIN_PAGE_URL)
-                    .get()
-                    .addHeader("User-Agent", "Mozilla/5.0 (iPhone; CPU iPhone OS 16_6 like Mac OS X) AppleWebKit/605.1.15")
-                    .build();
-
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (response.isSuccessful()) {
-                    logger.debug("버스 로그인 페이지 GET 성공");
-                    return true;
-                } else {
-                    logger.warn("버스 로그인 페이지 GET 실패: " + response.code());
-                    return false;
+            operation.track(admission.acquireAsync(WorkClass.INTERACTIVE, ticket -> {
+                if (operation.isCancelled()) {
+                    ticket.close();
+                    return;
                 }
+                // 취소된 경우 결과가 전달되지 않으며, 티켓은 operation 취소 시 반환됨
+                operation.track(authenticator.authenticateAsync(loginId.trim(), password, result -> {
+                    ticket.close();
+                    storeInCacheAsync(() -> rememberVerdict(loginId, password, result));
+                    onComplete.accept(result);
+                }));
+            }, () -> {
+                if (!operation.isCancelled()) {
+                    onComplete.accept(SomansaAuthResult.RATE_LIMITED);
+                }
+            }));
+        }, error -> {
+            if (!operation.isCancelled()) {
+                onComplete.accept(SomansaAuthResult.upstreamError(error));
             }
-        } catch (IOException e) {
-            logger.error("버스 로그인 페이지 GET 중 예외", e);
-            return false;
-        }
+        });
+        return operation;
     }
     
     /**
-     * 버스 시스템 로그인 수행
+     * 소만사 직원 정보 확인 (이름 포함, 비동기)
+     * 
+     * @param onComplete 인증 결과 전달 (취소된 경우 호출되지 않음)
+     * @return 취소 시 진행 중인 HTTP 호출도 중단
      */
-    private int performBusLogin(String loginId) {
-        try {
-            String payload = String.format("{ \"data\": \"%s,pc\" }", escapeJson(loginId));
-            RequestBody body = RequestBody.create(payload, MediaType.get("application/json"));
+    AsyncOperation getSomansaEmployeeInfoAsync(String loginId, String password, Consumer<SomansaAuthResult> onComplete) {
+        logger.info("소만사 직원 정보 조회 시작 - loginId: " + MaskUtil.maskLoginId(loginId));
+        
+        AsyncOperation operation = new AsyncOperation();
+        operation.track(isSomansaEmployeeAsync(loginId, password, authResult -> {
+            if (!authResult.isSomansaEmployee()) {
+                logger.info("Mattermost 인증 실패");
+                onComplete.accept(authResult);
+                return;
+            }
             
-            Request request = new Request.Builder()
-                    .url(BUS_LOGIN_API_URL)
-                    .post(body)
-                    .addHeader("Content-Type", "application/json; charset=UTF-8")
-                    .addHeader("User-Agent", "Mozilla/5.0 (iPhone; CPU iPhone OS 16_6 like Mac OS X) AppleWebKit/605.1.15")
-                    .addHeader("Referer", BUS_LOGIN_PAGE_URL)
-                    .build();
-
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (response.isSuccessful()) {
-                    String responseBody = response.body().string();
-                    logger.debug("버스 로그인 응답: " + responseBody);
-                    
-                    // {"d":126491} 형태에서 승객 ID 추출
-                    // 간단한 정규식 또는 더 안전한 방법 사용
-                    try {
-                        // "d": 뒤의 숫자 부분만 추출
-                        String pattern = "\"d\":";
-                        int startIndex = responseBody.indexOf(pattern);
-                        if (startIndex != -1) {
-                            startIndex += pattern.length(); // "d": 길이만큼 건너뛰기
-                            int endIndex = responseBody.indexOf("}", startIndex);
-                            if (endIndex == -1) {
-                                endIndex = responseBody.length(); // } 가 없으면 끝까지
-                            }
-                            
-                            String idStr = responseBody.substring(startIndex, endIndex)
-                                    .trim()
-                                    .replaceAll("[^0-9-]", ""); // 숫자와 마이너스만 남김
-                            
-                            if (!idStr.isEmpty()) {
-                                int passengerId = Integer.parseInt(idStr);
-                                logger.debug("추가 인증 성공, ID: " + passengerId);
-                                return passengerId;
-                            } else {
-                                logger.debug("ID를 추출할 수 없음: " + responseBody);
-                            }
-                        } else {
-                            logger.debug("\"d\": 패턴을 찾을 수 없음: " + responseBody);
+            if (authResult.getUserName() != null) {
+                onComplete.accept(authResult);
+                return;
+            }
+            
+            logger.debug("Mattermost 인증 성공 - 사용자 이름 조회 시작");
+            
+            String busLoginId = toBusLoginId(loginId);
+            lookupCacheAsync(() -> cachedUserName(busLoginId), cachedName -> {
+                if (operation.isCancelled()) {
+                    return;
+                }
+                if (cachedName != null) {
+                    onComplete.accept(withUserName(authResult, cachedName));
+                    return;
+                }
+                
+                EngineRuntime runtime = runtime();
+                if (runtime.isBusDown()) {
+                    logger.info("버스 시스템 응답 없음 - 사용자 이름 조회 생략");
+                    onComplete.accept(authResult);
+                    return;
+                }
+                operation.track(admission.acquireAsync(WorkClass.ENRICHMENT, ticket -> {
+                    if (operation.isCancelled()) {
+                        ticket.close();
+                        return;
+                    }
+                    BusSessionContext context = runtime.busSessionPool.acquire();
+                    operation.track(runtime.busSessionFlow.runAsync(context, busLoginId, userName -> {
+                        ticket.close();
+                        if (userName != null) {
+                            runtime.busSessionPool.release(context);
+                            storeInCacheAsync(() -> rememberUserName(busLoginId, userName));
                         }
-                    } catch (Exception e) {
-                        logger.debug("ID 파싱 실패 - 응답: " + responseBody + ", 오류: " + e.getMessage());
+                        onComplete.accept(withUserName(authResult, userName));
+                    }));
+                }, () -> {
+                    if (!operation.isCancelled()) {
+                        // 이름 보강을 기다리기보다 인증 결과만 먼저 반환
+                        logger.info("부하로 사용자 이름 조회 생략 - 인증 결과만 반환");
+                        onComplete.accept(authResult);
                     }
+                }));
+            }, error -> {
+                // 이름 조회 실패는 인증 결과만 반환
+                if (!operation.isCancelled()) {
+                    onComplete.accept(authResult);
                 }
-                logger.debug("추가 인증 실패: " + response.code());
-                return -1;
-            }
-        } catch (IOException e) {
-            logger.error("버스 로그인 중 예외", e);
-            return -1;
+            });
+        }));
+        return operation;
+    }
+    
+    /**
+     * 인증 결과에 사용자 이름 반영
+     */
+    private SomansaAuthResult withUserName(SomansaAuthResult authResult, String userName) {
+        if (userName != null) {
+            logger.info("Mattermost 인증 성공 - 사용자 이름: " + userName);
+            return authResult.withUserName(userName);
+        } else {
+            logger.info("Mattermost 인증 성공");
+            logger.debug("사용자 이름 조회 실패 - 기본 결과 반환");
+            return authResult; // 이름 조회 실패해도 인증은 성공이므로 기본 결과 반환
         }
     }
     
     /**
-     * 버스 시스템 세션 생성
+     * 로그인 ID 목록의 사용자 이름을 일괄 조회합니다. (사용자 디렉토리 사전 적재용)
+     * 비밀번호 없이 버스 시스템만 조회하며, 제한된 수의 워커가 각자 독립된 세션으로 병렬 조회합니다.
+     * 
+     * @param loginIds 로그인 ID 목록 (도메인 생략 시 @somansa.com)
+     * @return 진행/오류 건수 조회 및 재시작이 가능한 작업
      */
-    private void createBusSession(String loginId, int passengerId) {
-        try {
-            String data = String.format("%s,%d,,pc", loginId, passengerId);
-            String payload = String.format("{ \"data\": \"%s\" }", data);
-            RequestBody body = RequestBody.create(payload, MediaType.get("application/json"));
-            
-            Request request = new Request.Builder()
-                    .url(BUS_CREATE_SESSION_URL)
-                    .post(body)
-                    .addHeader("Content-Type", "application/json; charset=UTF-8")
-                    .addHeader("User-Agent", "Mozilla/5.0 (iPhone; CPU iPhone OS 16_6 like Mac OS X) AppleWebKit/605.1.15")
-                    .build();
-
-            // 두 번 호출 (원래 로직과 동일)
-            try (Response response1 = httpClient.newCall(request).execute()) {
-                logger.debug("첫 번째 세션 생성: " + response1.code());
-            }
-            try (Response response2 = httpClient.newCall(request).execute()) {
-                logger.debug("두 번째 세션 생성: " + response2.code());
+    public NameResolutionJob resolveNames(Collection<String> loginIds) {
+        return resolveNames(loginIds, resolution -> { });
+    }
+    
+    /**
+     * 로그인 ID 목록의 사용자 이름을 일괄 조회합니다.
+     * 
+     * @param loginIds 로그인 ID 목록 (도메인 생략 시 @somansa.com)
+     * @param listener 조회 완료 시마다 호출 (워커 스레드에서 호출됨)
+     * @return 진행/오류 건수 조회 및 재시작이 가능한 작업
+     */
+    public NameResolutionJob resolveNames(Collection<String> loginIds, Consumer<NameResolution> listener) {
+        List<String> busLoginIds = new ArrayList<>();
+        for (String loginId : loginIds) {
+            if (loginId != null && !loginId.trim().isEmpty()) {
+                busLoginIds.add(toBusLoginId(loginId.trim()));
             }
-        } catch (IOException e) {
-            logger.error("버스 세션 생성 중 예외", e);
         }
+        
+        EngineRuntime runtime = runtime();
+        NameResolutionJob job = new NameResolutionJob(
+                busLoginIds,
+                properties.getBulk().getParallelism(),
+                bulkRateLimiter,
+                runtime.busSessionPool::newContext,
+                (context, loginId, rateLimiter) -> resolveUserName(WorkClass.BATCH, context, loginId, rateLimiter),
+                listener);
+        job.start();
+        return job;
     }
     
     /**
-     * 버스 시스템 Home 페이지에서 사용자 이름 추출
+     * 버스 시스템에서 사용자 이름을 가져옵니다.
+     * 유휴 세션을 재사용하며, 실패한 세션은 풀에 반환하지 않습니다.
+     * 
+     * @param loginId 로그인 ID
+     * @return 사용자 이름, 실패 시 null
      */
-    private String extractUserNameFromBusHome() {
+    private String getBusSystemUserName(String loginId) {
+        String cachedName = cachedUserName(loginId);
+        if (cachedName != null) {
+            return cachedName;
+        }
+        
+        logger.debug("사용자 이름 조회를 위한 추가 인증 시작");
+        EngineRuntime runtime = runtime();
+        BusSessionContext context = runtime.busSessionPool.acquire();
+        String userName = null;
         try {
-            Request request = new Request.Builder()
-                    .url(BUS_HOME_URL)
-                    .get()
-                    .addHeader("User-Agent", "Mozilla/5.0 (iPhone; CPU iPhone OS 16_6 like Mac OS X) AppleWebKit/605.1.15")
-                    .addHeader("Referer", BUS_LOGIN_PAGE_URL)
-                    .build();
-
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    logger.warn("버스 Home 페이지 GET 실패: " + response.code());
-                    return null;
-                }
-
-                String html = response.body().string();
-                Document doc = Jsoup.parse(html);
-                
-                // <span id="noticeClear">서새찬</span> 요소 찾기
-                Element nameElement = doc.getElementById("noticeClear");
-                if (nameElement != null) {
-                    String userName = nameElement.text().trim();
-                    logger.debug("사용자 이름 추출 성공: " + userName);
-                    return userName;
-                }
-                
-                // 대안: "서새찬 님 안녕하세요" 형태에서 추출
-                Element titleElement = doc.select(".contents-box .title").first();
-                if (titleElement != null) {
-                    String titleText = titleElement.text();
-                    if (titleText.contains("님 안녕하세요")) {
-                        String userName = titleText.replace("님 안녕하세요", "").trim();
-                        logger.debug("대안 방법으로 사용자 이름 추출 성공: " + userName);
-                        return userName;
-                    }
-                }
-                
-                logger.warn("사용자 이름 요소를 찾을 수 없음");
-                return null;
-            }
-        } catch (IOException e) {
-            logger.error("버스 Home 페이지 요청 중 예외", e);
+            userName = resolveUserName(WorkClass.ENRICHMENT, context, loginId, null);
+            return userName;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             return null;
+        } catch (Exception e) {
+            logger.debug("사용자 이름 조회 중 예외 발생", e);
+            return null;
+        } finally {
+            if (userName != null) {
+                runtime.busSessionPool.release(context);
+            }
         }
     }
     
     /**
-     * 로그인 페이로드 생성
+     * 캐시된 이름이 없으면 속도 제한과 수용 제어를 거쳐 주어진 세션으로 버스 시스템에서 조회
+     *
+     * @param rateLimiter 버스 시스템 호출 전에 대기할 속도 제한기 (없으면 null)
+     * @return 사용자 이름, 실패 또는 부하로 생략된 경우 null (일괄 작업은 생략 시 예외)
      */
-    private String createLoginPayload(String loginId, String password) {
-        return String.format(
-            "{\"login_id\":\"%s\",\"password\":\"%s\",\"token\":\"\",\"deviceId\":\"\"}",
-            escapeJson(loginId),
-            escapeJson(password)
-        );
+    private String resolveUserName(WorkClass workClass, BusSessionContext context, String loginId,
+                                   RateLimiter rateLimiter) throws InterruptedException {
+        String cachedName = cachedUserName(loginId);
+        if (cachedName != null) {
+            return cachedName;
+        }
+        
+        if (runtime().isBusDown()) {
+            if (workClass == WorkClass.BATCH) {
+                throw new IllegalStateException("버스 시스템 응답 없음 (상태 확인 실패)");
+            }
+            logger.info("버스 시스템 응답 없음 - 사용자 이름 조회 생략");
+            return null;
+        }
+        
+        if (rateLimiter != null) {
+            rateLimiter.acquire();
+        }
+        AdmissionController.Ticket ticket = admission.acquire(workClass);
+        if (ticket == null) {
+            if (workClass == WorkClass.BATCH) {
+                // 일괄 작업은 실패 목록에 남겨 나중에 다시 조회할 수 있도록 사유를 전달
+                throw new IllegalStateException("부하로 일괄 조회가 보류되었습니다");
+            }
+            logger.info("부하로 사용자 이름 조회 생략 - 인증 결과만 반환");
+            return null;
+        }
+        String userName;
+        try (ticket) {
+            userName = runtime().busSessionFlow.run(context, loginId);
+        }
+        if (userName != null) {
+            rememberUserName(loginId, userName);
+        }
+        return userName;
     }
     
     /**
-     * HTTP 요청 생성
+     * 캐시된 인증 결과 조회
      */
-    private Request createHttpRequest(String jsonPayload) {
-        RequestBody body = RequestBody.create(jsonPayload, MediaType.get("application/json"));
-        
-        return new Request.Builder()
-                .url(LOGIN_URL)
-                .post(body)
-                .addHeader("Accept", "*/*")
-                .addHeader("Accept-Language", "ko")
-                .addHeader("Cache-Control", "no-cache")
-                .addHeader("Content-Type", "application/json")
-                .addHeader("Origin", "https://mattermost.somansa.com")
-                .addHeader("Pragma", "no-cache")
-                .addHeader("Sec-Fetch-Dest", "empty")
-                .addHeader("Sec-Fetch-Mode", "cors")
-                .addHeader("Sec-Fetch-Site", "same-origin")
-                .addHeader("User-Agent", "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/138.0.0.0 Safari/537.36")
-                .addHeader("X-Requested-With", "XMLHttpRequest")
-                .build();
+    private SomansaAuthResult cachedVerdict(String loginId, String password) {
+        if (cache == null) {
+            return null;
+        }
+        SomansaAuthResult cached = cache.getVerdict(loginId, password);
+        if (cached != null) {
+            logger.info("캐시된 인증 결과 사용 - 소만사 직원 여부: " + cached.isSomansaEmployee());
+        }
+        return cached;
     }
     
     /**
-     * 응답 처리
+     * 확정적인 인증 결과(직원 확인 / 잘못된 인증 정보)만 캐시
+     * 인증 응답에 이름이 포함되어 있으면 이름도 함께 캐시합니다.
      */
-    private SomansaAuthResult processResponse(Response response) throws IOException {
-        String responseBody = response.body() != null ? response.body().string() : "";
-        int statusCode = response.code();
-        
-        logger.debug("응답 상태 코드: " + statusCode);
-        logger.debug("응답 본문 길이: " + responseBody.length());
-        
-        if (statusCode == 401) {
-            return handleUnauthorizedResponse(responseBody);
-        } else if (statusCode == 200) {
-            logger.info("정상 로그인 성공 - 소만사 직원 확인됨");
-            return SomansaAuthResult.success("소만사 직원입니다", extractRequestId(responseBody));
-        } else {
-            logger.warn("예상치 못한 응답 코드: " + statusCode);
-            return SomansaAuthResult.exception("예상치 못한 응답입니다: " + statusCode);
+    private SomansaAuthResult rememberVerdict(String loginId, String password, SomansaAuthResult result) {
+        if (cache != null && result.getOutcome().isDecisive()) {
+            cache.putVerdict(loginId, password, result);
+        }
+        if (result.getUserName() != null) {
+            rememberUserName(toBusLoginId(loginId), result.getUserName());
         }
+        return result;
     }
     
     /**
-     * 401 Unauthorized 응답 처리
+     * 비동기 경로의 캐시 조회
+     * 블로킹 캐시는 호출 스레드(이벤트 루프, OkHttp 디스패처)를 막지 않도록 캐시 전용 스레드에서 조회하고 이어서 진행합니다.
+     * 
+     * @param onError 캐시 스레드에서 이어진 처리가 실패했거나 엔진이 종료된 경우 오류 메시지 전달
      */
-    private SomansaAuthResult handleUnauthorizedResponse(String responseBody) {
+    private <T> void lookupCacheAsync(Supplier<T> lookup, Consumer<T> continuation, Consumer<String> onError) {
+        if (cacheExecutor == null) {
+            continuation.accept(lookup.get());
+            return;
+        }
         try {
-            // JSON 파싱을 통한 에러 확인
-            if (responseBody.contains(MFA_ERROR_ID)) {
-                logger.info("MFA 인증 단계 도달 - 소만사 직원 확인됨");
-                String requestId = extractRequestId(responseBody);
-                return SomansaAuthResult.success("소만사 직원입니다 (MFA 단계)", requestId);
-            } else if (responseBody.contains(INVALID_CREDENTIALS_ID)) {
-                logger.info("잘못된 인증 정보 - 소만사 직원 아님");
-                String requestId = extractRequestId(responseBody);
-                return SomansaAuthResult.failure("소만사 직원이 아닙니다", INVALID_CREDENTIALS_ID, requestId);
-            } else {
-                logger.warn("알 수 없는 401 응답: " + responseBody);
-                return SomansaAuthResult.exception("알 수 없는 인증 오류입니다");
-            }
-        } catch (Exception e) {
-            logger.error("응답 파싱 중 오류", e);
-            return SomansaAuthResult.exception("응답 처리 중 오류가 발생했습니다");
+            cacheExecutor.execute(() -> {
+                try {
+                    continuation.accept(lookup.get());
+                } catch (RuntimeException e) {
+                    logger.error("캐시 조회 후 처리 실패", e);
+                    onError.accept("인증 처리 중 오류가 발생했습니다");
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            onError.accept("인증 엔진이 종료되었습니다");
         }
     }
     
     /**
-     * 응답에서 request_id 추출
+     * 비동기 경로의 캐시 저장 (블로킹 캐시는 결과 전달을 기다리게 하지 않도록 캐시 전용 스레드에서 저장)
      */
-    private String extractRequestId(String responseBody) {
+    private void storeInCacheAsync(Runnable store) {
+        if (cacheExecutor == null) {
+            store.run();
+            return;
+        }
         try {
-            int startIndex = responseBody.indexOf("\"request_id\":\"");
-            if (startIndex != -1) {
-                startIndex += 14; // "request_id":" 길이
-                int endIndex = responseBody.indexOf("\"", startIndex);
-                if (endIndex != -1) {
-                    return responseBody.substring(startIndex, endIndex);
-                }
-            }
-        } catch (Exception e) {
-            logger.debug("request_id 추출 실패", e);
+            cacheExecutor.execute(store);
+        } catch (RejectedExecutionException e) {
+            logger.debug("엔진 종료 - 캐시 저장 생략");
+        }
+    }
+    
+    private String cachedUserName(String loginId) {
+        return cache != null ? cache.getUserName(loginId) : null;
+    }
+    
+    private void rememberUserName(String loginId, String userName) {
+        if (cache != null) {
+            cache.putUserName(loginId, userName);
         }
-        return null;
     }
     
     /**
-     * JSON 문자열 이스케이프 처리
+     * 버스 시스템 로그인 ID (도메인 추가)
      */
-    private String escapeJson(String input) {
-        if (input == null) return "";
-        return input.replace("\\", "\\\\")
-                   .replace("\"", "\\\"")
-                   .replace("\n", "\\n")
-                   .replace("\r", "\\r")
-                   .replace("\t", "\\t");
+    private String toBusLoginId(String loginId) {
+        return loginId.contains("@") ? loginId : loginId + "@somansa.com";
     }
     
     /**
-     * 로그인 ID 마스킹 처리 (로그용)
+     * 입력값 검증
+     * 
+     * @return 검증 실패 결과, 통과 시 null
      */
-    private String maskLoginId(String loginId) {
-        if (loginId == null || loginId.length() <= 3) {
-            return "***";
+    private SomansaAuthResult validateInput(String loginId, String password) {
+        if (loginId == null || loginId.trim().isEmpty()) {
+            logger.warn("로그인 ID가 비어있음");
+            return SomansaAuthResult.MISSING_LOGIN_ID;
         }
         
-        if (loginId.contains("@")) {
-            // 이메일인 경우
-            String[] parts = loginId.split("@");
-            String localPart = parts[0];
-            String domain = parts.length > 1 ? parts[1] : "";
-            
-            String maskedLocal = localPart.length() > 2 
-                ? localPart.substring(0, 2) + "*".repeat(Math.max(1, localPart.length() - 2))
-                : localPart;
-            
-            return maskedLocal + "@" + domain;
-        } else {
-            // 사용자명인 경우
-            return loginId.substring(0, 2) + "*".repeat(Math.max(1, loginId.length() - 2));
+        if (password == null || password.trim().isEmpty()) {
+            logger.warn("비밀번호가 비어있음");
+            return SomansaAuthResult.MISSING_PASSWORD;
         }
+        return null;
     }
-}
\ No newline at end of file
+}
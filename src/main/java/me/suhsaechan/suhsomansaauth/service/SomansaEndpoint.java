@@ -0,0 +1,26 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+/**
+ * 인증 엔진이 호출하는 외부 엔드포인트 구분
+ * 엔드포인트별 지연시간 추적 및 타임아웃 산정 단위로 사용됩니다.
+ */
+public enum SomansaEndpoint {
+
+    // Mattermost 로그인
+    MATTERMOST_LOGIN,
+
+    // 그 외 인증 제공자 로그인
+    PROVIDER_LOGIN,
+
+    // 버스 시스템 Login.aspx 페이지
+    BUS_LOGIN_PAGE,
+
+    // 버스 시스템 Login.aspx/LoginCheck
+    BUS_LOGIN_CHECK,
+
+    // 버스 시스템 Default.aspx/CreateSession
+    BUS_CREATE_SESSION,
+
+    // 버스 시스템 Home.aspx
+    BUS_HOME
+}
@@ -0,0 +1,102 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import java.time.Instant;
+
+/**
+ * 외부 시스템 상태 (주기적 상태 확인 결과, 불변)
+ */
+public final class UpstreamHealth {
+
+    /**
+     * 상태
+     */
+    public enum Status {
+        // 아직 판정 전 (확인 전이거나 연속 실패가 기준 미만)
+        UNKNOWN,
+        // 응답함
+        UP,
+        // 연속 실패가 기준 이상 - 호출 시 타임아웃 가능성이 높음
+        DOWN
+    }
+
+    /**
+     * 외부 시스템 역할
+     */
+    public enum Role {
+        // 직원 인증 제공자 (인증 가능 여부 결정)
+        AUTH,
+        // 버스 시스템 (사용자 이름 조회)
+        NAME_LOOKUP
+    }
+
+    private final String name;
+    private final Role role;
+    private final Status status;
+
+    // 마지막 확인 소요 시간 (확인 전이면 -1)
+    private final long lastLatencyMillis;
+
+    // 최근 확인 소요 시간 (지수 이동 평균, 확인 전이면 -1)
+    private final long averageLatencyMillis;
+
+    // 마지막 확인 완료 시각 (확인 전이면 null)
+    private final Instant checkedAt;
+
+    private final int consecutiveFailures;
+
+    // 마지막 실패 사유 (정상이면 null)
+    private final String lastError;
+
+    UpstreamHealth(String name, Role role, Status status, long lastLatencyMillis, long averageLatencyMillis,
+                   Instant checkedAt, int consecutiveFailures, String lastError) {
+        this.name = name;
+        this.role = role;
+        this.status = status;
+        this.lastLatencyMillis = lastLatencyMillis;
+        this.averageLatencyMillis = averageLatencyMillis;
+        this.checkedAt = checkedAt;
+        this.consecutiveFailures = consecutiveFailures;
+        this.lastError = lastError;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public long getLastLatencyMillis() {
+        return lastLatencyMillis;
+    }
+
+    public long getAverageLatencyMillis() {
+        return averageLatencyMillis;
+    }
+
+    public Instant getCheckedAt() {
+        return checkedAt;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    @Override
+    public String toString() {
+        return name + "{status=" + status
+                + ", lastLatency=" + lastLatencyMillis + "ms"
+                + ", avgLatency=" + averageLatencyMillis + "ms"
+                + (lastError != null ? ", error=" + lastError : "")
+                + '}';
+    }
+}
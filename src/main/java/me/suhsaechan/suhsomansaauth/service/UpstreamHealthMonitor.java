@@ -0,0 +1,229 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthProperties;
+import me.suhsaechan.suhsomansaauth.provider.SomansaAuthProvider;
+import me.suhsaechan.suhsomansaauth.util.SomansaLogger;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 시스템 상태 확인
+ * 인증 제공자와 버스 시스템을 고정 간격으로 확인하고 결과를 보관합니다.
+ * 상태 조회는 보관된 결과만 반환하며 외부 호출을 하지 않습니다.
+ *
+ * 확인 요청은 재시도/적응형 타임아웃/수용 제어를 거치지 않고 timeout 상한으로 한 번만 호출하며,
+ * 이전 확인이 끝나지 않은 대상은 다음 주기에 건너뜁니다.
+ * 전달받는 클라이언트에는 녹화/재생 인터셉터가 없어야 합니다 (엔진이 제외한 클라이언트를 전달).
+ */
+class UpstreamHealthMonitor implements Closeable {
+
+    private static final SomansaLogger logger = SomansaLogger.getLogger(UpstreamHealthMonitor.class);
+
+    static final String BUS_SYSTEM = "BusSystem";
+
+    // 최근 소요 시간 지수 이동 평균 가중치
+    private static final double LATENCY_WEIGHT = 0.3;
+
+    private final OkHttpClient probeClient;
+    private final SomansaAuthProperties.Health config;
+    private final Map<String, Target> targets = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    UpstreamHealthMonitor(OkHttpClient httpClient, SomansaAuthProperties.Health config,
+                          List<SomansaAuthProvider> providers) {
+        this.config = config;
+        this.probeClient = httpClient.newBuilder()
+                .callTimeout(config.getTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .retryOnConnectionFailure(false)
+                .build();
+        for (SomansaAuthProvider provider : providers) {
+            Request request = provider.createHealthCheckRequest();
+            if (request != null) {
+                targets.put(provider.getName(), new Target(provider.getName(), UpstreamHealth.Role.AUTH, request));
+            }
+        }
+        // 버스 로그인 페이지 HEAD (본문 없이 응답 여부만 확인)
+        targets.put(BUS_SYSTEM, new Target(BUS_SYSTEM, UpstreamHealth.Role.NAME_LOOKUP,
+                new Request.Builder().url(BusSessionFlow.BUS_LOGIN_PAGE_URL).head().build()));
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "somansa-health-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = config.getInterval().toMillis();
+        scheduler.scheduleAtFixedRate(this::probeAll, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("외부 시스템 상태 확인 시작 - 대상: " + targets.keySet() + ", 간격: " + intervalMillis + "ms");
+    }
+
+    /**
+     * 보관된 상태 (확인 대상 등록 순서)
+     */
+    List<UpstreamHealth> snapshot() {
+        List<UpstreamHealth> snapshot = new ArrayList<>(targets.size());
+        for (Target target : targets.values()) {
+            snapshot.add(target.snapshot());
+        }
+        return snapshot;
+    }
+
+    boolean isFailFast() {
+        return config.isFailFast();
+    }
+
+    /**
+     * DOWN 으로 판정된 대상인지 (확인 대상이 아니면 false)
+     */
+    boolean isDown(String name) {
+        Target target = targets.get(name);
+        return target != null && target.isDown();
+    }
+
+    private void probeAll() {
+        try {
+            for (Target target : targets.values()) {
+                if (target.tryStart()) {
+                    probe(target);
+                }
+            }
+        } catch (RuntimeException e) {
+            // 예외로 주기 작업이 중단되지 않도록 다음 주기에 다시 확인
+            logger.error("외부 시스템 상태 확인 중 예외 발생", e);
+        }
+    }
+
+    private void probe(Target target) {
+        long startNanos = System.nanoTime();
+        try {
+            probeClient.newCall(target.request).enqueue(new Callback() {
+                @Override
+                public void onResponse(Call call, Response response) {
+                    try (response) {
+                        long latencyMillis = elapsedMillis(startNanos);
+                        if (response.code() >= 500) {
+                            target.recordFailure(latencyMillis, "HTTP " + response.code());
+                        } else {
+                            target.recordSuccess(latencyMillis);
+                        }
+                    }
+                }
+
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    target.recordFailure(elapsedMillis(startNanos), e.getClass().getSimpleName() + ": " + e.getMessage());
+                }
+            });
+        } catch (RuntimeException e) {
+            // 호출을 시작하지 못한 경우에도 확인 중 상태를 해제 (남아 있으면 이후 확인을 계속 건너뜀)
+            target.recordFailure(elapsedMillis(startNanos), e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 확인 중단 (진행 중인 확인 요청은 timeout 안에 끝남)
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 확인 대상별 상태
+     */
+    private final class Target {
+
+        private final String name;
+        private final UpstreamHealth.Role role;
+        private final Request request;
+
+        private UpstreamHealth.Status status = UpstreamHealth.Status.UNKNOWN;
+        private long lastLatencyMillis = -1;
+        private double averageLatencyMillis = -1;
+        private Instant checkedAt;
+        private int consecutiveFailures;
+        private String lastError;
+        private boolean inFlight;
+
+        private Target(String name, UpstreamHealth.Role role, Request request) {
+            this.name = name;
+            this.role = role;
+            this.request = request;
+        }
+
+        private synchronized boolean tryStart() {
+            if (inFlight) {
+                return false;
+            }
+            inFlight = true;
+            return true;
+        }
+
+        private synchronized boolean isDown() {
+            return status == UpstreamHealth.Status.DOWN;
+        }
+
+        private void recordSuccess(long latencyMillis) {
+            UpstreamHealth.Status previous;
+            synchronized (this) {
+                previous = status;
+                complete(latencyMillis);
+                status = UpstreamHealth.Status.UP;
+                consecutiveFailures = 0;
+                lastError = null;
+            }
+            if (previous == UpstreamHealth.Status.DOWN) {
+                logger.info(name + " 응답 회복 (" + latencyMillis + "ms)");
+            }
+        }
+
+        private void recordFailure(long latencyMillis, String error) {
+            boolean wentDown;
+            synchronized (this) {
+                complete(latencyMillis);
+                consecutiveFailures++;
+                lastError = error;
+                wentDown = status != UpstreamHealth.Status.DOWN && consecutiveFailures >= config.getFailureThreshold();
+                if (wentDown) {
+                    status = UpstreamHealth.Status.DOWN;
+                }
+            }
+            if (wentDown) {
+                logger.warn(name + " 응답 없음 - 연속 " + config.getFailureThreshold() + "회 확인 실패: " + error);
+            } else {
+                logger.debug(name + " 상태 확인 실패: " + error);
+            }
+        }
+
+        private void complete(long latencyMillis) {
+            inFlight = false;
+            checkedAt = Instant.now();
+            lastLatencyMillis = latencyMillis;
+            averageLatencyMillis = averageLatencyMillis < 0
+                    ? latencyMillis
+                    : LATENCY_WEIGHT * latencyMillis + (1 - LATENCY_WEIGHT) * averageLatencyMillis;
+        }
+
+        private synchronized UpstreamHealth snapshot() {
+            return new UpstreamHealth(name, role, status, lastLatencyMillis, Math.round(averageLatencyMillis),
+                    checkedAt, consecutiveFailures, lastError);
+        }
+    }
+}
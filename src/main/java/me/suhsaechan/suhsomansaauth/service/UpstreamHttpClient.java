@@ -0,0 +1,215 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import me.suhsaechan.suhsomansaauth.util.SomansaLogger;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 엔드포인트 호출 래퍼
+ * 호출마다 엔드포인트별 적응형 타임아웃을 적용하고 지연시간을 기록하며,
+ * 일시적 장애는 재시도 정책과 예산 안에서 재시도합니다.
+ */
+class UpstreamHttpClient {
+
+    private static final SomansaLogger logger = SomansaLogger.getLogger(UpstreamHttpClient.class);
+
+    private final OkHttpClient client;
+    private final AdaptiveTimeoutPolicy timeoutPolicy;
+    private final RetryPolicy retryPolicy;
+
+    UpstreamHttpClient(OkHttpClient client, AdaptiveTimeoutPolicy timeoutPolicy, RetryPolicy retryPolicy) {
+        this.client = client;
+        this.timeoutPolicy = timeoutPolicy;
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * 동기 호출
+     */
+    Response execute(SomansaEndpoint endpoint, Request request) throws IOException {
+        return execute(client, endpoint, request);
+    }
+
+    /**
+     * 동기 호출 (세션별 쿠키 저장소를 가진 파생 클라이언트 사용)
+     * 재시도 대기는 호출 스레드에서 이루어집니다.
+     */
+    Response execute(OkHttpClient callClient, SomansaEndpoint endpoint, Request request) throws IOException {
+        RetryPolicy.Attempts attempts = retryPolicy.begin(endpoint);
+        while (true) {
+            Response response;
+            try {
+                response = executeOnce(callClient, endpoint, request);
+            } catch (IOException e) {
+                long delayMillis = retryPolicy.isRetryable(endpoint, e) ? attempts.nextDelayMillis() : -1;
+                if (delayMillis < 0) {
+                    throw e;
+                }
+                logger.debug(endpoint + " 호출 실패 - " + delayMillis + "ms 후 재시도 (" + attempts.attempt() + "회차): " + e.getMessage());
+                sleep(delayMillis);
+                continue;
+            }
+
+            if (retryPolicy.isRetryable(endpoint, response.code())) {
+                long delayMillis = attempts.nextDelayMillis();
+                if (delayMillis >= 0) {
+                    logger.debug(endpoint + " 응답 코드 " + response.code() + " - " + delayMillis
+                            + "ms 후 재시도 (" + attempts.attempt() + "회차)");
+                    response.close();
+                    sleep(delayMillis);
+                    continue;
+                }
+            }
+            return response;
+        }
+    }
+
+    private Response executeOnce(OkHttpClient callClient, SomansaEndpoint endpoint, Request request) throws IOException {
+        Call call = newCall(callClient, endpoint, request);
+        long startNanos = System.nanoTime();
+        try {
+            Response response = call.execute();
+            timeoutPolicy.record(endpoint, elapsedMillis(startNanos));
+            return response;
+        } catch (InterruptedIOException e) {
+            // 타임아웃도 관측값으로 기록해 상류가 전반적으로 느려지면 타임아웃도 함께 늘어나도록 함
+            timeoutPolicy.record(endpoint, elapsedMillis(startNanos));
+            throw e;
+        }
+    }
+
+    /**
+     * 비동기 호출 (OkHttp 디스패처 스레드에서 콜백 실행)
+     * 시도마다 새 Call 을 operation 에 등록하므로 재시도 대기 중에도 취소할 수 있습니다.
+     * 취소된 경우에도 onFailure 는 호출됩니다.
+     */
+    void enqueue(AsyncOperation operation, OkHttpClient callClient, SomansaEndpoint endpoint, Request request,
+                 UpstreamCallback callback) {
+        enqueueAttempt(operation, callClient, endpoint, request, callback, retryPolicy.begin(endpoint));
+    }
+
+    private void enqueueAttempt(AsyncOperation operation, OkHttpClient callClient, SomansaEndpoint endpoint,
+                                Request request, UpstreamCallback callback, RetryPolicy.Attempts attempts) {
+        Call call = newCall(callClient, endpoint, request);
+        operation.track(call);
+
+        long startNanos = System.nanoTime();
+        call.enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                timeoutPolicy.record(endpoint, elapsedMillis(startNanos));
+                if (retryPolicy.isRetryable(endpoint, response.code())) {
+                    long delayMillis = attempts.nextDelayMillis();
+                    if (delayMillis >= 0) {
+                        logger.debug(endpoint + " 응답 코드 " + response.code() + " - " + delayMillis
+                                + "ms 후 재시도 (" + attempts.attempt() + "회차)");
+                        response.close();
+                        scheduleRetry(delayMillis, operation, callClient, endpoint, request, callback, attempts);
+                        return;
+                    }
+                }
+                try (response) {
+                    callback.onResponse(response);
+                } catch (IOException e) {
+                    callback.onFailure(e);
+                } catch (RuntimeException e) {
+                    // 파서 오류 등도 실패로 전달 (결과가 전달되지 않으면 호출 측이 완료되지 않고 수용 티켓도 반환되지 않음)
+                    logger.error(endpoint + " 응답 처리 중 예외 발생", e);
+                    callback.onFailure(new IOException("응답 처리 중 오류: " + e.getMessage(), e));
+                }
+            }
+
+            @Override
+            public void onFailure(Call call, IOException e) {
+                if (call.isCanceled()) {
+                    callback.onFailure(e);
+                    return;
+                }
+                if (e instanceof InterruptedIOException) {
+                    timeoutPolicy.record(endpoint, elapsedMillis(startNanos));
+                }
+                long delayMillis = retryPolicy.isRetryable(endpoint, e) ? attempts.nextDelayMillis() : -1;
+                if (delayMillis >= 0) {
+                    logger.debug(endpoint + " 호출 실패 - " + delayMillis + "ms 후 재시도 (" + attempts.attempt() + "회차): " + e.getMessage());
+                    scheduleRetry(delayMillis, operation, callClient, endpoint, request, callback, attempts);
+                    return;
+                }
+                callback.onFailure(e);
+            }
+        });
+    }
+
+    private void scheduleRetry(long delayMillis, AsyncOperation operation, OkHttpClient callClient,
+                               SomansaEndpoint endpoint, Request request, UpstreamCallback callback,
+                               RetryPolicy.Attempts attempts) {
+        RetryScheduler.INSTANCE.schedule(() -> {
+            if (operation.isCancelled()) {
+                // 대기 중 취소되어도 호출 측이 자원을 정리할 수 있도록 실패로 알림
+                callback.onFailure(new IOException("Canceled"));
+                return;
+            }
+            enqueueAttempt(operation, callClient, endpoint, request, callback, attempts);
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private Call newCall(OkHttpClient callClient, SomansaEndpoint endpoint, Request request) {
+        Call call = callClient.newCall(request);
+        if (timeoutPolicy.isEnabled()) {
+            call.timeout().timeout(timeoutPolicy.currentTimeoutMillis(endpoint), TimeUnit.MILLISECONDS);
+        }
+        return call;
+    }
+
+    OkHttpClient client() {
+        return client;
+    }
+
+    AdaptiveTimeoutPolicy timeoutPolicy() {
+        return timeoutPolicy;
+    }
+
+    private static void sleep(long delayMillis) throws InterruptedIOException {
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("재시도 대기 중 중단됨");
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 비동기 재시도 지연용 스케줄러 (최초 재시도 시 생성)
+     */
+    private static final class RetryScheduler {
+
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "somansa-retry-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 비동기 호출 콜백
+     * onResponse 종료 후 응답은 자동으로 닫힙니다.
+     */
+    interface UpstreamCallback {
+
+        void onResponse(Response response) throws IOException;
+
+        void onFailure(IOException e);
+    }
+}
@@ -0,0 +1,17 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+/**
+ * 수용 제어 작업 등급 (선언 순서가 우선순위)
+ * 과부하 시 낮은 등급의 대기 작업부터 제거합니다.
+ */
+public enum WorkClass {
+
+    // 사용자가 기다리는 인증 (isSomansaEmployee, getSomansaEmployeeInfo 의 인증 단계)
+    INTERACTIVE,
+
+    // 인증 결과에 붙이는 이름 조회 (생략돼도 인증 결과는 유효)
+    ENRICHMENT,
+
+    // 일괄 이름 조회 등 백그라운드 작업
+    BATCH
+}
@@ -0,0 +1,120 @@
+package me.suhsaechan.suhsomansaauth.traffic;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 녹화된 HTTP 호출 1건 (민감정보 제거 후)
+ *
+ * 파일 형식: 헤더(매직 "SMTR", 버전) 뒤에 레코드가 이어지며 전체를 gzip 으로 압축합니다.
+ * 녹화 중 프로세스가 종료되어 마지막 레코드가 잘린 경우 그 앞까지만 읽습니다.
+ */
+final class TrafficRecord {
+
+    static final int MAGIC = 0x534D5452;
+    static final int VERSION = 1;
+
+    // 녹화 시작 후 요청 시작 시각 (ms)
+    long offsetMillis;
+
+    // 요청 전송부터 응답 헤더 수신(또는 실패)까지 (ms)
+    long latencyMillis;
+
+    String method;
+    String url;
+    List<String> requestHeaders = new ArrayList<>();
+    byte[] requestBody;
+
+    // 응답 코드, 호출 실패 시 0
+    int code;
+
+    // 응답 메시지, 호출 실패 시 예외 메시지
+    String message;
+    String protocol;
+    List<String> responseHeaders = new ArrayList<>();
+    byte[] responseBody;
+
+    boolean isFailure() {
+        return code == 0;
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeLong(offsetMillis);
+        out.writeLong(latencyMillis);
+        writeString(out, method);
+        writeString(out, url);
+        writeHeaders(out, requestHeaders);
+        writeBytes(out, requestBody);
+        out.writeInt(code);
+        writeString(out, message);
+        writeString(out, protocol);
+        writeHeaders(out, responseHeaders);
+        writeBytes(out, responseBody);
+    }
+
+    static TrafficRecord read(DataInputStream in) throws IOException {
+        TrafficRecord record = new TrafficRecord();
+        record.offsetMillis = in.readLong();
+        record.latencyMillis = in.readLong();
+        record.method = readString(in);
+        record.url = readString(in);
+        record.requestHeaders = readHeaders(in);
+        record.requestBody = readBytes(in);
+        record.code = in.readInt();
+        record.message = readString(in);
+        record.protocol = readString(in);
+        record.responseHeaders = readHeaders(in);
+        record.responseBody = readBytes(in);
+        return record;
+    }
+
+    // 헤더는 이름/값을 번갈아 저장
+    private static void writeHeaders(DataOutputStream out, List<String> headers) throws IOException {
+        out.writeInt(headers.size());
+        for (String value : headers) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readHeaders(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> headers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            headers.add(readString(in));
+        }
+        return headers;
+    }
+
+    // writeUTF 는 64KB 제한이 있으므로 길이 + UTF-8 바이트로 저장
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value != null ? value.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = readBytes(in);
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        if (bytes == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,170 @@
+package me.suhsaechan.suhsomansaauth.traffic;
+
+import me.suhsaechan.suhsomansaauth.util.SomansaLogger;
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 외부 호출 녹화 인터셉터
+ * 호출마다 요청/응답 헤더, 텍스트 본문, 지연시간을 민감정보 제거 후 압축 파일에 기록합니다.
+ * 기록된 파일은 TrafficReplayer 로 재생해 네트워크 없이 같은 응답과 지연시간을 재현합니다.
+ *
+ * 압축 해제된 본문을 기록하도록 엔진 클라이언트의 가장 바깥 인터셉터로 등록됩니다.
+ * 응답 본문은 peekBody 로 복사하므로 호출 측의 읽기에는 영향이 없습니다.
+ */
+public final class TrafficRecorder implements Interceptor, Closeable {
+
+    private static final SomansaLogger logger = SomansaLogger.getLogger(TrafficRecorder.class);
+
+    private final DataOutputStream out;
+    private final int maxBodyBytes;
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong recordCount = new AtomicLong();
+    private boolean closed;
+
+    private TrafficRecorder(DataOutputStream out, int maxBodyBytes) {
+        this.out = out;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    /**
+     * 녹화 파일 생성 (기존 파일은 덮어씀)
+     *
+     * @param maxBodyBytes 본문 기록 상한 (초과분은 잘라서 기록)
+     */
+    public static TrafficRecorder open(Path file, int maxBodyBytes) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        // 레코드마다 flush 하므로 프로세스가 종료되어도 직전 레코드까지 남음
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(file), true)));
+        out.writeInt(TrafficRecord.MAGIC);
+        out.writeInt(TrafficRecord.VERSION);
+        out.flush();
+        logger.info("외부 호출 녹화 시작 - 파일: " + file);
+        return new TrafficRecorder(out, maxBodyBytes);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        TrafficRecord record = new TrafficRecord();
+        long callStartNanos = System.nanoTime();
+        record.offsetMillis = TimeUnit.NANOSECONDS.toMillis(callStartNanos - startNanos);
+        record.method = request.method();
+        record.url = TrafficSanitizer.sanitizeText(request.url().toString());
+        copyHeaders(request.headers(), record.requestHeaders);
+        record.requestBody = requestBody(request);
+
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            record.latencyMillis = elapsedMillis(callStartNanos);
+            record.message = e.getClass().getSimpleName() + ": " + e.getMessage();
+            write(record);
+            throw e;
+        }
+        record.latencyMillis = elapsedMillis(callStartNanos);
+        record.code = response.code();
+        record.message = response.message();
+        record.protocol = response.protocol().toString();
+        copyHeaders(response.headers(), record.responseHeaders);
+        record.responseBody = responseBody(response);
+        write(record);
+        return response;
+    }
+
+    /**
+     * 기록한 호출 수
+     */
+    public long getRecordCount() {
+        return recordCount.get();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        out.close();
+        logger.info("외부 호출 녹화 종료 - " + recordCount.get() + "건");
+    }
+
+    private synchronized void write(TrafficRecord record) {
+        if (closed) {
+            return;
+        }
+        try {
+            record.write(out);
+            out.flush();
+            recordCount.incrementAndGet();
+        } catch (IOException e) {
+            // 녹화 실패가 인증 호출을 실패시키지 않도록 기록만 중단
+            logger.error("외부 호출 녹화 실패 - 녹화 중단", e);
+            closed = true;
+        }
+    }
+
+    private byte[] requestBody(Request request) throws IOException {
+        if (request.body() == null || request.body().isOneShot() || request.body().isDuplex()
+                || !isText(request.body().contentType())) {
+            return null;
+        }
+        Buffer buffer = new Buffer();
+        request.body().writeTo(buffer);
+        return sanitize(buffer.readByteArray(Math.min(buffer.size(), maxBodyBytes)));
+    }
+
+    private byte[] responseBody(Response response) throws IOException {
+        ResponseBody body = response.body();
+        if (body == null || !isText(body.contentType())) {
+            return null;
+        }
+        return sanitize(response.peekBody(maxBodyBytes).bytes());
+    }
+
+    private static byte[] sanitize(byte[] body) {
+        return TrafficSanitizer.sanitizeText(new String(body, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void copyHeaders(Headers headers, List<String> target) {
+        for (int i = 0; i < headers.size(); i++) {
+            target.add(headers.name(i));
+            target.add(TrafficSanitizer.sanitizeHeader(headers.name(i), headers.value(i)));
+        }
+    }
+
+    // 본문 유형을 알 수 없으면 텍스트로 간주 (버스 시스템/Mattermost 응답은 모두 텍스트)
+    private static boolean isText(MediaType contentType) {
+        if (contentType == null) {
+            return true;
+        }
+        String subtype = contentType.subtype();
+        return contentType.type().equals("text") || subtype.contains("json") || subtype.contains("xml")
+                || subtype.contains("html") || subtype.equals("x-www-form-urlencoded");
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
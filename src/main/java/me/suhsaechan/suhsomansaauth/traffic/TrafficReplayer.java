@@ -0,0 +1,275 @@
+package me.suhsaechan.suhsomansaauth.traffic;
+
+import me.suhsaechan.suhsomansaauth.util.SomansaLogger;
+import okhttp3.Call;
+import okhttp3.Cookie;
+import okhttp3.CookieJar;
+import okhttp3.EventListener;
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 녹화 파일 재생 인터셉터 (네트워크 대신 응답하는 프로세스 내 대역)
+ *
+ * 요청을 "메서드 + 경로" 별 녹화 순서대로 응답하고, 녹화된 지연시간을 speed 배속으로 재현합니다.
+ * 호출 실패(타임아웃 등)도 같은 지연 후 IOException 으로 재현합니다.
+ * 녹화가 모두 소진되면 loop 설정에 따라 처음부터 다시 사용하거나 실패합니다.
+ *
+ * 네트워크 단계를 거치지 않으므로 쿠키는 withCookieJar 로 바인딩한 저장소에 직접 저장하고,
+ * 재생 지연 중 취소는 cancellationListener 를 클라이언트에 등록해야 즉시 반영됩니다.
+ */
+public final class TrafficReplayer implements Interceptor {
+
+    private static final SomansaLogger logger = SomansaLogger.getLogger(TrafficReplayer.class);
+
+    // 본문을 새로 구성하므로 재생하지 않는 헤더
+    private static final Set<String> DROPPED_HEADERS = Set.of("content-encoding", "content-length", "transfer-encoding");
+
+    private final Map<String, Track> tracks;
+    private final double speed;
+    private final boolean loop;
+    private final int recordCount;
+
+    // 재생 지연 중인 호출 (취소 이벤트로 깨움, 바인딩한 인스턴스끼리 공유)
+    private final Map<Call, CountDownLatch> waiting;
+
+    // 응답 쿠키를 저장할 저장소 (없으면 저장하지 않음)
+    private final CookieJar cookieJar;
+
+    private TrafficReplayer(Map<String, Track> tracks, int recordCount, double speed, boolean loop,
+                            Map<Call, CountDownLatch> waiting, CookieJar cookieJar) {
+        this.tracks = tracks;
+        this.recordCount = recordCount;
+        this.speed = speed;
+        this.loop = loop;
+        this.waiting = waiting;
+        this.cookieJar = cookieJar;
+    }
+
+    /**
+     * 녹화 파일 로드
+     *
+     * @param speed 재생 배속 (1.0: 녹화 당시 지연시간, 10.0: 10배 빠르게, 0 이하: 지연 없음)
+     * @param loop 녹화 소진 시 처음부터 다시 재생
+     */
+    public static TrafficReplayer load(Path file, double speed, boolean loop) throws IOException {
+        List<TrafficRecord> records = readAll(file);
+        Map<String, Track> tracks = new HashMap<>();
+        for (TrafficRecord record : records) {
+            HttpUrl url = HttpUrl.parse(record.url);
+            if (url != null) {
+                tracks.computeIfAbsent(key(record.method, url), key -> new Track()).records.add(record);
+            }
+        }
+        logger.info("외부 호출 재생 준비 - " + records.size() + "건, " + tracks.size() + "개 엔드포인트, 배속: " + speed);
+        return new TrafficReplayer(tracks, records.size(), speed, loop, new ConcurrentHashMap<>(), null);
+    }
+
+    /**
+     * 응답 쿠키를 지정한 저장소에 저장하는 재생기 (녹화 순서와 취소 대기는 원본과 공유)
+     * 버스 시스템 세션마다 쿠키 저장소가 다르므로 세션 클라이언트별로 바인딩합니다.
+     */
+    public TrafficReplayer withCookieJar(CookieJar cookieJar) {
+        return new TrafficReplayer(tracks, recordCount, speed, loop, waiting, cookieJar);
+    }
+
+    /**
+     * 호출 취소 시 재생 지연을 바로 끝내는 이벤트 리스너
+     * 재생 중에는 네트워크 단계가 실행되지 않으므로 기존 리스너에는 호출 단위 이벤트만 전달합니다.
+     *
+     * @param delegate 클라이언트에 원래 등록된 이벤트 리스너
+     */
+    public EventListener.Factory cancellationListener(EventListener.Factory delegate) {
+        return call -> new CancellationListener(delegate.create(call));
+    }
+
+    static List<TrafficRecord> readAll(Path file) throws IOException {
+        List<TrafficRecord> records = new ArrayList<>();
+        try (InputStream raw = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(raw)))) {
+            if (in.readInt() != TrafficRecord.MAGIC) {
+                throw new IOException("녹화 파일 형식이 아닙니다: " + file);
+            }
+            int version = in.readInt();
+            if (version != TrafficRecord.VERSION) {
+                throw new IOException("지원하지 않는 녹화 파일 버전: " + version);
+            }
+            while (true) {
+                try {
+                    records.add(TrafficRecord.read(in));
+                } catch (EOFException e) {
+                    // 정상 종료 또는 녹화 중단으로 잘린 마지막 레코드
+                    break;
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * 녹화된 호출 수
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        TrafficRecord record = next(request);
+        if (record == null) {
+            throw new IOException("녹화되지 않은 요청: " + request.method() + " " + request.url().encodedPath());
+        }
+
+        delay(chain.call(), record.latencyMillis);
+        if (record.isFailure()) {
+            throw new IOException("재생된 호출 실패 - " + record.message);
+        }
+
+        Headers.Builder headers = new Headers.Builder();
+        for (int i = 0; i + 1 < record.responseHeaders.size(); i += 2) {
+            String name = record.responseHeaders.get(i);
+            if (!DROPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.add(name, record.responseHeaders.get(i + 1));
+            }
+        }
+        Headers responseHeaders = headers.build();
+        String contentType = responseHeaders.get("Content-Type");
+        byte[] body = record.responseBody != null ? record.responseBody : new byte[0];
+
+        Response response = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.get(record.protocol))
+                .code(record.code)
+                .message(record.message != null ? record.message : "")
+                .headers(responseHeaders)
+                .body(ResponseBody.create(body, contentType != null ? MediaType.parse(contentType) : null))
+                .build();
+        saveCookies(request.url(), responseHeaders);
+        return response;
+    }
+
+    private TrafficRecord next(Request request) {
+        Track track = tracks.get(key(request.method(), request.url()));
+        return track != null ? track.next(loop) : null;
+    }
+
+    /**
+     * 녹화된 지연시간만큼 대기 (취소 이벤트가 오면 즉시 실패)
+     */
+    private void delay(Call call, long latencyMillis) throws IOException {
+        if (speed <= 0 || latencyMillis <= 0) {
+            return;
+        }
+        long delayNanos = (long) (latencyMillis / speed * 1_000_000L);
+        CountDownLatch canceled = new CountDownLatch(1);
+        // 취소 플래그는 취소 이벤트보다 먼저 설정되므로 등록 후 확인하면 취소를 놓치지 않음
+        waiting.put(call, canceled);
+        try {
+            if (call.isCanceled() || canceled.await(delayNanos, TimeUnit.NANOSECONDS)) {
+                throw new IOException("Canceled");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("재생 대기 중 중단됨", e);
+        } finally {
+            waiting.remove(call, canceled);
+        }
+    }
+
+    /**
+     * 네트워크 단계(BridgeInterceptor)를 거치지 않으므로 바인딩한 쿠키 저장소에 직접 저장
+     */
+    private void saveCookies(HttpUrl url, Headers headers) {
+        if (cookieJar == null || cookieJar == CookieJar.NO_COOKIES) {
+            return;
+        }
+        List<Cookie> cookies = Cookie.parseAll(url, headers);
+        if (!cookies.isEmpty()) {
+            cookieJar.saveFromResponse(url, cookies);
+        }
+    }
+
+    /**
+     * 취소 이벤트로 재생 대기를 깨우고 호출 단위 이벤트는 기존 리스너에 전달
+     */
+    private final class CancellationListener extends EventListener {
+
+        private final EventListener delegate;
+
+        private CancellationListener(EventListener delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void canceled(Call call) {
+            CountDownLatch latch = waiting.get(call);
+            if (latch != null) {
+                latch.countDown();
+            }
+            delegate.canceled(call);
+        }
+
+        @Override
+        public void callStart(Call call) {
+            delegate.callStart(call);
+        }
+
+        @Override
+        public void callEnd(Call call) {
+            delegate.callEnd(call);
+        }
+
+        @Override
+        public void callFailed(Call call, IOException ioe) {
+            delegate.callFailed(call, ioe);
+        }
+    }
+
+    private static String key(String method, HttpUrl url) {
+        return method + " " + url.host() + url.encodedPath();
+    }
+
+    /**
+     * 엔드포인트별 녹화 순서
+     */
+    private static final class Track {
+
+        private final List<TrafficRecord> records = new ArrayList<>();
+        private int cursor;
+
+        private synchronized TrafficRecord next(boolean loop) {
+            if (cursor >= records.size()) {
+                if (!loop || records.isEmpty()) {
+                    return null;
+                }
+                cursor = 0;
+            }
+            return records.get(cursor++);
+        }
+    }
+}
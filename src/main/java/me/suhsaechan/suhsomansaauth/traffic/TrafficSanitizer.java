@@ -0,0 +1,87 @@
+package me.suhsaechan.suhsomansaauth.traffic;
+
+import me.suhsaechan.suhsomansaauth.util.MaskUtil;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 녹화 데이터 민감정보 제거
+ *
+ * - 비밀번호 필드 값 → ***
+ * - 로그인 ID 필드, 버스 시스템 data 필드의 로그인 ID, 모든 이메일 → MaskUtil.maskLoginId
+ * - Mattermost 이름 필드(first_name, last_name, nickname), 버스 Home 이름 요소와 인사말 → MaskUtil.maskName
+ * - 인증 헤더/쿠키 값 → REDACTED (Set-Cookie 는 재생 시 세션 흐름을 위해 이름과 속성 유지)
+ */
+final class TrafficSanitizer {
+
+    static final String REDACTED = "REDACTED";
+
+    private static final Set<String> SECRET_HEADERS = Set.of("authorization", "proxy-authorization", "cookie", "token",
+            "x-csrf-token");
+
+    private static final Pattern PASSWORD_FIELD = Pattern.compile(
+            "(\"(?:password|passwd|pwd)\"\\s*:\\s*\")((?:[^\"\\\\]|\\\\.)*)(\")", Pattern.CASE_INSENSITIVE);
+    private static final Pattern LOGIN_ID_FIELD = Pattern.compile(
+            "(\"(?:login_id|loginId|username|email)\"\\s*:\\s*\")((?:[^\"\\\\]|\\\\.)*)(\")");
+    // 버스 시스템 LoginCheck / CreateSession: { "data": "로그인ID,..." }
+    private static final Pattern BUS_DATA_FIELD = Pattern.compile("(\"data\"\\s*:\\s*\")([^\",]*)");
+    private static final Pattern NAME_FIELD = Pattern.compile(
+            "(\"(?:first_name|last_name|nickname)\"\\s*:\\s*\")((?:[^\"\\\\]|\\\\.)*)(\")");
+    // 버스 시스템 Home: <span id="noticeClear">이름</span>, <span id="lblUserName">이름</span>
+    private static final Pattern NAME_ELEMENT = Pattern.compile(
+            "(<[^>]*\\bid\\s*=\\s*[\"']?(?:noticeClear|lblUserName)\\b[^>]*>)([^<]*)");
+    // 버스 시스템 Home 인사말: "이름 님 안녕하세요"
+    private static final Pattern NAME_GREETING = Pattern.compile("([^\\s<>]+)(\\s*님 안녕하세요)");
+    private static final Pattern EMAIL = Pattern.compile("[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}");
+
+    private TrafficSanitizer() {
+    }
+
+    static String sanitizeText(String text) {
+        String sanitized = replace(PASSWORD_FIELD, text, matcher -> matcher.group(1) + "***" + matcher.group(3));
+        sanitized = replace(LOGIN_ID_FIELD, sanitized,
+                matcher -> matcher.group(1) + MaskUtil.maskLoginId(matcher.group(2)) + matcher.group(3));
+        sanitized = replace(BUS_DATA_FIELD, sanitized,
+                matcher -> matcher.group(1) + MaskUtil.maskLoginId(matcher.group(2)));
+        sanitized = replace(NAME_FIELD, sanitized,
+                matcher -> matcher.group(1) + MaskUtil.maskName(matcher.group(2)) + matcher.group(3));
+        sanitized = replace(NAME_ELEMENT, sanitized,
+                matcher -> matcher.group(1) + MaskUtil.maskName(matcher.group(2)));
+        sanitized = replace(NAME_GREETING, sanitized,
+                matcher -> MaskUtil.maskName(matcher.group(1)) + matcher.group(2));
+        return replace(EMAIL, sanitized, matcher -> MaskUtil.maskLoginId(matcher.group()));
+    }
+
+    static String sanitizeHeader(String name, String value) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        if (SECRET_HEADERS.contains(lower)) {
+            return REDACTED;
+        }
+        if (lower.equals("set-cookie")) {
+            int equals = value.indexOf('=');
+            int end = value.indexOf(';');
+            if (equals < 0) {
+                return REDACTED;
+            }
+            return value.substring(0, equals + 1) + REDACTED + (end > equals ? value.substring(end) : "");
+        }
+        return sanitizeText(value);
+    }
+
+    private static String replace(Pattern pattern, String text, Function<Matcher, String> replacer) {
+        Matcher matcher = pattern.matcher(text);
+        if (!matcher.find()) {
+            return text;
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        do {
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(replacer.apply(matcher)));
+        } while (matcher.find());
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,22 @@
+package me.suhsaechan.suhsomansaauth.util;
+
+/**
+ * JSON 문자열 유틸리티
+ */
+public class JsonUtil {
+
+    private JsonUtil() {
+    }
+
+    /**
+     * JSON 문자열 이스케이프 처리
+     */
+    public static String escapeJson(String input) {
+        if (input == null) return "";
+        return input.replace("\\", "\\\\")
+                   .replace("\"", "\\\"")
+                   .replace("\n", "\\n")
+                   .replace("\r", "\\r")
+                   .replace("\t", "\\t");
+    }
+}
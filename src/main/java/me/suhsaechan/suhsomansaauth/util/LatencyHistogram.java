@@ -0,0 +1,103 @@
+package me.suhsaechan.suhsomansaauth.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 스트리밍 지연시간 히스토그램
+ * 지수 간격(10%) 버킷에 지연시간을 누적하고, 일정 샘플마다 카운트를 절반으로 줄여
+ * 최근 관측값에 더 큰 가중치를 두는 방식으로 백분위수를 추정합니다.
+ */
+public class LatencyHistogram {
+
+    // 버킷 상한 증가율 (버킷 i 의 상한 = GROWTH^i ms)
+    private static final double GROWTH = 1.1;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+    // 1.1^128 ms ≒ 1.9시간, 그 이상은 마지막 버킷에 누적
+    private static final int BUCKET_COUNT = 128;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong total = new AtomicLong();
+    private final long decayThreshold;
+
+    public LatencyHistogram() {
+        this(10_000);
+    }
+
+    /**
+     * @param decayThreshold 누적 샘플 수가 이 값에 도달하면 전체 카운트를 절반으로 감쇠
+     */
+    public LatencyHistogram(long decayThreshold) {
+        this.decayThreshold = Math.max(2, decayThreshold);
+    }
+
+    /**
+     * 지연시간 기록
+     *
+     * @param latencyMillis 관측된 지연시간 (ms)
+     */
+    public void record(long latencyMillis) {
+        buckets.incrementAndGet(bucketIndex(latencyMillis));
+        if (total.incrementAndGet() >= decayThreshold) {
+            decay();
+        }
+    }
+
+    /**
+     * 현재까지 유효한 샘플 수
+     */
+    public long count() {
+        return total.get();
+    }
+
+    /**
+     * 백분위수 추정값 (ms)
+     *
+     * @param quantile 0.0 ~ 1.0 (예: 0.999)
+     * @return 해당 백분위수가 속한 버킷의 상한, 샘플이 없으면 -1
+     */
+    public long percentile(double quantile) {
+        long count = total.get();
+        if (count <= 0) {
+            return -1;
+        }
+        long target = (long) Math.ceil(Math.min(1.0, Math.max(0.0, quantile)) * count);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += buckets.get(i);
+            if (cumulative >= target && cumulative > 0) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * 카운트를 절반으로 감쇠 (오래된 관측값의 영향 축소)
+     * 동시에 기록되는 샘플을 잃지 않도록 버킷별로 원자적으로 줄이고,
+     * 전체 샘플 수에서는 실제로 줄인 만큼만 뺍니다.
+     */
+    private synchronized void decay() {
+        if (total.get() < decayThreshold) {
+            return; // 다른 스레드가 이미 감쇠함
+        }
+        long removed = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long previous = buckets.getAndUpdate(i, v -> v >>> 1);
+            removed += previous - (previous >>> 1);
+        }
+        total.addAndGet(-removed);
+    }
+
+    private static int bucketIndex(long latencyMillis) {
+        if (latencyMillis <= 1) {
+            return 0;
+        }
+        int index = (int) Math.ceil(Math.log(latencyMillis) / LOG_GROWTH);
+        return Math.min(BUCKET_COUNT - 1, index);
+    }
+
+    private static long upperBound(int index) {
+        return (long) Math.ceil(Math.pow(GROWTH, index));
+    }
+}
@@ -0,0 +1,49 @@
+package me.suhsaechan.suhsomansaauth.util;
+
+/**
+ * 로그/녹화용 개인정보 마스킹 유틸리티
+ */
+public class MaskUtil {
+
+    private MaskUtil() {
+    }
+
+    /**
+     * 로그인 ID 마스킹 처리 (앞 2자만 남김, 이메일은 도메인 유지)
+     */
+    public static String maskLoginId(String loginId) {
+        if (loginId == null || loginId.length() <= 3) {
+            return "***";
+        }
+
+        if (loginId.contains("@")) {
+            // 이메일인 경우
+            String[] parts = loginId.split("@");
+            String localPart = parts[0];
+            String domain = parts.length > 1 ? parts[1] : "";
+
+            String maskedLocal = localPart.length() > 2
+                ? localPart.substring(0, 2) + "*".repeat(Math.max(1, localPart.length() - 2))
+                : localPart;
+
+            return maskedLocal + "@" + domain;
+        } else {
+            // 사용자명인 경우
+            return loginId.substring(0, 2) + "*".repeat(Math.max(1, loginId.length() - 2));
+        }
+    }
+
+    /**
+     * 사용자 이름 마스킹 처리 (첫 글자만 남김)
+     */
+    public static String maskName(String name) {
+        if (name == null || name.isBlank()) {
+            return name;
+        }
+        String trimmed = name.trim();
+        if (trimmed.length() == 1) {
+            return "*";
+        }
+        return trimmed.substring(0, 1) + "*".repeat(trimmed.length() - 1);
+    }
+}
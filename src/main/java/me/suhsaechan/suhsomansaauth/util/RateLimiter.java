@@ -0,0 +1,41 @@
+package me.suhsaechan.suhsomansaauth.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고정 간격 요청 속도 제한기
+ * 호출 간격을 1 / permitsPerSecond 초로 균등하게 벌려 외부 시스템에 몰아치지 않도록 합니다.
+ */
+public class RateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeNanos = System.nanoTime();
+
+    /**
+     * @param permitsPerSecond 초당 허용 횟수 (0 이하이면 제한 없음)
+     */
+    public RateLimiter(double permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0
+                ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond)
+                : 0;
+    }
+
+    /**
+     * 다음 허용 시점까지 대기
+     */
+    public void acquire() throws InterruptedException {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextFreeNanos);
+            nextFreeNanos = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package me.suhsaechan.suhsomansaauth.util;
+
+/**
+ * 토큰 버킷 재시도 예산
+ * 최초 요청마다 ratio 만큼 토큰을 적립하고 재시도마다 1개를 소모합니다.
+ * 외부 시스템 장애로 모든 요청이 실패해도 재시도는 요청 수의 ratio 비율을 넘지 않습니다.
+ */
+public class RetryBudget {
+
+    // 소수 토큰을 정수로 다루기 위한 배율
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private long balance;
+
+    /**
+     * @param ratio 최초 요청 1건당 적립 토큰 (0.1 = 10%)
+     * @param maxTokens 최대 보유 토큰 (시작 시 가득 찬 상태)
+     */
+    public RetryBudget(double ratio, int maxTokens) {
+        this.depositPerRequest = Math.max(0, Math.round(ratio * SCALE));
+        this.maxBalance = Math.max(0, maxTokens) * SCALE;
+        this.balance = maxBalance;
+    }
+
+    /**
+     * 최초 요청 기록 (토큰 적립)
+     */
+    public synchronized void deposit() {
+        balance = Math.min(maxBalance, balance + depositPerRequest);
+    }
+
+    /**
+     * 재시도 토큰 1개 소모
+     *
+     * @return 예산이 부족하면 false
+     */
+    public synchronized boolean tryWithdraw() {
+        if (balance < SCALE) {
+            return false;
+        }
+        balance -= SCALE;
+        return true;
+    }
+
+    /**
+     * 현재 보유 토큰 수
+     */
+    public synchronized double getBalance() {
+        return (double) balance / SCALE;
+    }
+}
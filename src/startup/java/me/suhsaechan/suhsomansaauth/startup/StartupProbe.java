@@ -0,0 +1,166 @@
+package me.suhsaechan.suhsomansaauth.startup;
+
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthProperties;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.service.SomansaAuthEngine;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * 시작 시간 측정 / AppCDS 학습 실행 (배포 jar 에 포함되지 않음)
+ *
+ * - record 녹화파일: 로컬 대역 상류 응답을 녹화 (네트워크 사용 안 함)
+ * - replay 녹화파일 결과파일: 녹화된 응답으로 엔진 생성과 첫 인증(이름 조회 포함)을 수행하고
+ *   JVM 시작부터 엔진 준비 / 첫 인증 완료까지 걸린 시간을 기록
+ *
+ * replay 실행은 OkHttp, Jsoup, 엔진의 실제 호출 경로를 그대로 거치므로
+ * -XX:ArchiveClassesAtExit 와 함께 실행하면 AppCDS 학습 실행이 됩니다.
+ */
+public final class StartupProbe {
+
+    private static final String LOGIN_ID = "startup-probe@somansa.com";
+    private static final String PASSWORD = "startup-probe";
+
+    private static final String MFA_BODY = "{\"id\":\"mfa.validate_token.authenticate.app_error\","
+            + "\"message\":\"MFA\",\"request_id\":\"startup-probe\"}";
+    private static final String HOME_HTML = "<html><body>\n<span id=\"noticeClear\">홍길동</span>\n"
+            + "<div>공지사항</div>\n</body></html>";
+
+    private StartupProbe() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && "record".equals(args[0])) {
+            record(Paths.get(args[1]));
+            return;
+        }
+        if (args.length == 3 && "replay".equals(args[0])) {
+            replay(Paths.get(args[1]), Paths.get(args[2]));
+            return;
+        }
+        throw new IllegalArgumentException("사용법: record <녹화파일> | replay <녹화파일> <결과파일>");
+    }
+
+    /**
+     * 로컬 대역 상류 응답 녹화
+     */
+    private static void record(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        OkHttpClient standIn = new OkHttpClient.Builder()
+                .addInterceptor(StartupProbe::standInUpstream)
+                .build();
+        SomansaAuthProperties properties = baseProperties();
+        properties.getTraffic().setMode(SomansaAuthProperties.Traffic.Mode.RECORD);
+        properties.getTraffic().setFile(file.toString());
+        SomansaAuthEngine engine = new SomansaAuthEngine(properties, standIn);
+        try {
+            verify(engine.getSomansaEmployeeInfo(LOGIN_ID, PASSWORD));
+        } finally {
+            engine.close();
+            standIn.dispatcher().executorService().shutdown();
+            standIn.connectionPool().evictAll();
+        }
+    }
+
+    /**
+     * 녹화 응답으로 엔진 생성과 첫 인증 수행 후 소요 시간 기록
+     */
+    private static void replay(Path file, Path report) throws IOException {
+        long mainMillis = uptimeMillis();
+
+        SomansaAuthProperties properties = baseProperties();
+        properties.setLazyInit(false);
+        properties.getTraffic().setMode(SomansaAuthProperties.Traffic.Mode.REPLAY);
+        properties.getTraffic().setFile(file.toString());
+        // 녹화된 지연시간 없이 재생 (순수 JVM/라이브러리 비용만 측정)
+        properties.getTraffic().setReplaySpeed(0);
+        SomansaAuthEngine engine = new SomansaAuthEngine(properties);
+        long engineReadyMillis = uptimeMillis();
+
+        SomansaAuthResult result;
+        try {
+            result = engine.getSomansaEmployeeInfo(LOGIN_ID, PASSWORD);
+        } finally {
+            engine.close();
+        }
+        long firstAuthMillis = uptimeMillis();
+        verify(result);
+
+        Properties metrics = new Properties();
+        metrics.setProperty("jvmToMainMillis", Long.toString(mainMillis));
+        metrics.setProperty("engineReadyMillis", Long.toString(engineReadyMillis));
+        metrics.setProperty("firstAuthMillis", Long.toString(firstAuthMillis));
+        metrics.setProperty("loadedClasses",
+                Integer.toString(ManagementFactory.getClassLoadingMXBean().getLoadedClassCount()));
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(report)) {
+            metrics.store(out, "JVM 시작 기준 소요 시간 (ms)");
+        }
+        System.out.println("엔진 준비 " + engineReadyMillis + "ms, 첫 인증 " + firstAuthMillis + "ms");
+    }
+
+    private static SomansaAuthProperties baseProperties() {
+        SomansaAuthProperties properties = new SomansaAuthProperties();
+        properties.getCache().setType(SomansaAuthProperties.Cache.Type.NONE);
+        properties.getRetry().setEnabled(false);
+        return properties;
+    }
+
+    private static void verify(SomansaAuthResult result) {
+        if (!result.isSomansaEmployee() || result.getUserName() == null) {
+            throw new IllegalStateException("대역 상류 응답으로 인증하지 못했습니다: " + result);
+        }
+    }
+
+    private static long uptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+
+    /**
+     * 로컬 대역 상류 - Mattermost 는 MFA 응답, 버스 시스템은 로그인부터 Home 까지 정상 응답
+     */
+    private static Response standInUpstream(Interceptor.Chain chain) {
+        Request request = chain.request();
+        String path = request.url().encodedPath();
+        String contentType = "text/html; charset=utf-8";
+        String body;
+        Response.Builder builder = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK");
+        if (path.endsWith("/api/v4/users/login")) {
+            builder.code(401).message("Unauthorized");
+            contentType = "application/json";
+            body = MFA_BODY;
+        } else if (path.endsWith("/Login.aspx")) {
+            builder.header("Set-Cookie", "ASP.NET_SessionId=startup-probe; path=/; HttpOnly");
+            body = "<html></html>";
+        } else if (path.endsWith("/LoginCheck")) {
+            contentType = "application/json; charset=utf-8";
+            body = "{\"d\":126491}";
+        } else if (path.endsWith("/CreateSession")) {
+            contentType = "application/json; charset=utf-8";
+            body = "{\"d\":null}";
+        } else if (path.endsWith("/Home.aspx")) {
+            body = HOME_HTML;
+        } else {
+            builder.code(404).message("Not Found");
+            body = "";
+        }
+        return builder.body(ResponseBody.create(body, MediaType.get(contentType))).build();
+    }
+}
@@ -1,13 +1,25 @@
 package me.suhsaechan.suhsomansaauth;
 
+import me.suhsaechan.suhsomansaauth.service.ReactiveSomansaAuthEngine;
+import me.suhsaechan.suhsomansaauth.service.SomansaAuthEngine;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest
 class SuhSomansaAuthApplicationTests {
 
+  @Autowired
+  private SomansaAuthEngine somansaAuthEngine;
+
+  @Autowired
+  private ReactiveSomansaAuthEngine reactiveSomansaAuthEngine;
+
   @Test
   void contextLoads() {
+    // 자동 설정으로 엔진 등록 확인
+    assert somansaAuthEngine != null;
+    assert reactiveSomansaAuthEngine != null;
   }
 
 }
@@ -0,0 +1,51 @@
+package me.suhsaechan.suhsomansaauth.cache;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult.Outcome;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 프로세스 내 캐시 테스트
+ */
+@Slf4j
+class InMemoryAuthCacheTest {
+
+    @Test
+    void mainTest() throws Exception {
+        // 상한 초과 시 가장 오래 사용하지 않은 항목부터 제거 (인증 결과/이름 합산)
+        InMemoryAuthCache cache = new InMemoryAuthCache(Duration.ofMinutes(10), Duration.ofDays(7), 3);
+        cache.putVerdict("chan4760", "password", SomansaAuthResult.of(Outcome.EMPLOYEE_MFA, "req-1"));
+        cache.putUserName("a@somansa.com", "가");
+        cache.putUserName("b@somansa.com", "나");
+        assert cache.getVerdict("chan4760", "password").isSomansaEmployee();
+        cache.putUserName("c@somansa.com", "다");
+        assert cache.size() == 3;
+        assert cache.getUserName("a@somansa.com") == null;
+        assert cache.getVerdict("chan4760", "password") != null;
+        assert "나".equals(cache.getUserName("b@somansa.com")) && "다".equals(cache.getUserName("c@somansa.com"));
+        log.info("최근 사용 순서 제거 테스트 통과");
+
+        // 만료 항목은 일정 횟수(여기서는 64회)의 저장마다 한꺼번에 정리
+        InMemoryAuthCache expiring = new InMemoryAuthCache(Duration.ofMinutes(10), Duration.ofMillis(1), 100);
+        for (int i = 0; i < 10; i++) {
+            expiring.putUserName("old" + i + "@somansa.com", "이름");
+        }
+        Thread.sleep(5);
+        for (int i = 10; i < 64; i++) {
+            expiring.putVerdict("user" + i, "password", SomansaAuthResult.of(Outcome.EMPLOYEE_MFA));
+        }
+        assert expiring.size() == 54 : expiring.size();
+        log.info("만료 항목 일괄 정리 테스트 통과");
+
+        // 인증 결과 유효 기간 0: 이름만 캐시
+        InMemoryAuthCache namesOnly = new InMemoryAuthCache(Duration.ZERO, Duration.ofDays(7), 10);
+        namesOnly.putVerdict("chan4760", "password", SomansaAuthResult.of(Outcome.EMPLOYEE_MFA));
+        namesOnly.putUserName("chan4760@somansa.com", "서새찬");
+        assert namesOnly.getVerdict("chan4760", "password") == null;
+        assert "서새찬".equals(namesOnly.getUserName("Chan4760@somansa.com"));
+        assert namesOnly.size() == 1;
+        log.info("이름 전용 캐시 테스트 통과");
+    }
+}
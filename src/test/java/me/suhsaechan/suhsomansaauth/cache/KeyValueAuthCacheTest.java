@@ -0,0 +1,104 @@
+package me.suhsaechan.suhsomansaauth.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult.Outcome;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 키-값 저장소(Redis) 어댑터 테스트
+ */
+@Slf4j
+class KeyValueAuthCacheTest {
+
+    private static final byte[] SECRET = "test-secret-test-secret-test-sec".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void mainTest() throws Exception {
+        EmbeddedKeyValueServer server = new EmbeddedKeyValueServer();
+        KeyValueAuthCache cache = new KeyValueAuthCache(server, "somansa-auth:", SECRET,
+                Duration.ofMinutes(10), Duration.ofDays(7));
+
+        cache.putVerdict("chan4760", "password",
+                SomansaAuthResult.of(Outcome.EMPLOYEE_MFA, "req-1"));
+        cache.putUserName("Chan4760@somansa.com", "서새찬");
+
+        // 같은 비밀키를 쓰는 다른 인스턴스(다른 호스트)에서도 조회
+        KeyValueAuthCache otherHost = new KeyValueAuthCache(server, "somansa-auth:", SECRET,
+                Duration.ofMinutes(10), Duration.ofDays(7));
+        assert otherHost.getVerdict("chan4760", "password").isSomansaEmployee();
+        assert otherHost.getVerdict("chan4760", "wrong") == null;
+        assert "서새찬".equals(otherHost.getUserName("chan4760@somansa.com"));
+        log.info("공유 조회 테스트 통과");
+
+        // 비밀번호 원문은 키/값에 남지 않음
+        for (Map.Entry<String, byte[]> entry : server.values.entrySet()) {
+            assert !entry.getKey().contains("password");
+            assert !new String(entry.getValue(), StandardCharsets.UTF_8).contains("password");
+        }
+        log.info("저장 키: {}", server.values.keySet());
+
+        // 저장소 TTL 만료
+        KeyValueAuthCache shortLived = new KeyValueAuthCache(server, "somansa-auth:", SECRET,
+                Duration.ofMillis(1), Duration.ofDays(7));
+        shortLived.putVerdict("expired", "password", SomansaAuthResult.of(Outcome.EMPLOYEE, "req-2"));
+        Thread.sleep(10);
+        assert shortLived.getVerdict("expired", "password") == null;
+        log.info("만료 테스트 통과");
+
+        // 인증 결과 유효 기간 0: 인증 결과는 저장하지 않고 이름만 캐시
+        KeyValueAuthCache namesOnly = new KeyValueAuthCache(server, "names-only:", SECRET,
+                Duration.ZERO, Duration.ofDays(7));
+        namesOnly.putVerdict("chan4760", "password", SomansaAuthResult.of(Outcome.EMPLOYEE_MFA));
+        namesOnly.putUserName("chan4760", "서새찬");
+        assert namesOnly.getVerdict("chan4760", "password") == null;
+        assert "서새찬".equals(namesOnly.getUserName("chan4760"));
+        assert server.values.keySet().stream().filter(key -> key.startsWith("names-only:")).count() == 1;
+        log.info("인증 결과 캐시 비활성화 테스트 통과");
+
+        // 저장소 장애는 캐시 미스로 처리
+        server.available = false;
+        assert cache.getVerdict("chan4760", "password") == null;
+        cache.putUserName("chan4760", "서새찬");
+        log.info("저장소 장애 테스트 통과");
+    }
+
+    /**
+     * Redis 대용 내장 저장소 (GET / SET PX 의미만 구현)
+     */
+    private static class EmbeddedKeyValueServer implements KeyValueClient {
+
+        private final Map<String, byte[]> values = new ConcurrentHashMap<>();
+        private final Map<String, Long> expiresAt = new ConcurrentHashMap<>();
+        private volatile boolean available = true;
+
+        @Override
+        public byte[] get(String key) {
+            checkAvailable();
+            Long expiry = expiresAt.get(key);
+            if (expiry == null || expiry < System.currentTimeMillis()) {
+                values.remove(key);
+                expiresAt.remove(key);
+                return null;
+            }
+            return values.get(key);
+        }
+
+        @Override
+        public void set(String key, byte[] value, Duration ttl) {
+            checkAvailable();
+            values.put(key, value);
+            expiresAt.put(key, System.currentTimeMillis() + ttl.toMillis());
+        }
+
+        private void checkAvailable() {
+            if (!available) {
+                throw new IllegalStateException("connection refused");
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package me.suhsaechan.suhsomansaauth.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult.Outcome;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 디스크 기반 인증 저장소 테스트
+ */
+@Slf4j
+class PersistentAuthStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void mainTest() throws Exception {
+        // 인덱스 확장이 일어나도록 작은 용량으로 시작
+        try (PersistentAuthStore store = open(Duration.ofMinutes(10))) {
+            store.putVerdict("chan4760", "password",
+                    SomansaAuthResult.of(Outcome.EMPLOYEE_MFA, "req-1"));
+            store.putVerdict("outsider", "wrong",
+                    SomansaAuthResult.of(Outcome.NOT_EMPLOYEE, "req-2"));
+            for (int i = 0; i < 100; i++) {
+                store.putUserName("user" + i, "사용자" + i);
+            }
+
+            SomansaAuthResult verdict = store.getVerdict("chan4760", "password");
+            assert verdict != null && verdict.isSomansaEmployee();
+            assert store.getVerdict("chan4760", "other-password") == null;
+            assert "사용자42".equals(store.getUserName("user42"));
+            log.info("저장/조회 테스트 통과");
+
+            // 열려 있는 디렉토리는 다른 저장소가 열 수 없음
+            boolean rejected = false;
+            try (PersistentAuthStore second = open(Duration.ofMinutes(10))) {
+                second.putUserName("user0", "덮어쓴이름");
+            } catch (IOException e) {
+                rejected = true;
+            }
+            assert rejected;
+            assert "사용자0".equals(store.getUserName("user0"));
+            log.info("중복 열기 거부 테스트 통과");
+        }
+
+        // 재시작 후에도 유지 (인덱스 파일을 지워도 로그에서 복구)
+        try (PersistentAuthStore store = open(Duration.ofMinutes(10))) {
+            assert store.getVerdict("chan4760", "password").isSomansaEmployee();
+            assert !store.getVerdict("outsider", "wrong").isSomansaEmployee();
+            assert "사용자99".equals(store.getUserName("user99"));
+        }
+        Files.delete(directory.resolve("auth-store.idx"));
+        try (PersistentAuthStore store = open(Duration.ofMinutes(10))) {
+            assert "사용자0".equals(store.getUserName("user0"));
+            assert store.size() == 102;
+            log.info("재시작 복구 테스트 통과");
+
+            // 같은 키를 덮어쓰면 압축 후 최신 값만 남음
+            store.putUserName("user0", "변경된이름");
+            long before = Files.size(directory.resolve("auth-store.log"));
+            store.compact();
+            long after = Files.size(directory.resolve("auth-store.log"));
+            assert after < before;
+            assert "변경된이름".equals(store.getUserName("user0"));
+            assert store.size() == 102;
+            log.info("압축 테스트 통과 - {} → {} bytes", before, after);
+        }
+
+        // 만료된 인증 결과는 반환하지 않음
+        try (PersistentAuthStore store = open(Duration.ofMillis(1))) {
+            store.putVerdict("expired", "password", SomansaAuthResult.of(Outcome.EMPLOYEE, "req-3"));
+            Thread.sleep(10);
+            assert store.getVerdict("expired", "password") == null;
+            log.info("만료 테스트 통과");
+        }
+    }
+
+    private PersistentAuthStore open(Duration verdictTtl) throws Exception {
+        return PersistentAuthStore.open(directory, verdictTtl, Duration.ofDays(7), 16, Duration.ZERO);
+    }
+}
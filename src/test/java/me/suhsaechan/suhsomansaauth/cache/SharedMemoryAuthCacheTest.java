@@ -0,0 +1,165 @@
+package me.suhsaechan.suhsomansaauth.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult.Outcome;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 여러 JVM 공유 인증 캐시 테스트
+ */
+@Slf4j
+class SharedMemoryAuthCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void mainTest() throws Exception {
+        try (SharedMemoryAuthCache cache = open()) {
+            // 다른 JVM 이 기록한 값을 조회
+            Process writer = new ProcessBuilder(
+                    Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"),
+                    Writer.class.getName(), directory.toString())
+                    .inheritIO()
+                    .start();
+            assert writer.waitFor(60, TimeUnit.SECONDS) && writer.exitValue() == 0;
+
+            assert "서새찬".equals(cache.getUserName("chan4760"));
+            SomansaAuthResult verdict = cache.getVerdict("chan4760", "password");
+            assert verdict != null && verdict.isSomansaEmployee();
+            assert cache.getVerdict("chan4760", "wrong") == null;
+            log.info("다른 JVM 기록 조회 테스트 통과");
+
+            // 같은 파일을 연 두 인스턴스가 동시에 기록해도 깨진 값은 읽지 않음
+            try (SharedMemoryAuthCache other = open()) {
+                AtomicInteger torn = new AtomicInteger();
+                Thread[] threads = new Thread[4];
+                for (int t = 0; t < threads.length; t++) {
+                    SharedMemoryAuthCache target = t % 2 == 0 ? cache : other;
+                    int worker = t;
+                    threads[t] = new Thread(() -> {
+                        for (int i = 0; i < 20_000; i++) {
+                            String loginId = "user" + (i % 32);
+                            target.putUserName(loginId, loginId + "-" + worker);
+                            String userName = target.getUserName(loginId);
+                            if (userName != null && !userName.startsWith(loginId + "-")) {
+                                torn.incrementAndGet();
+                            }
+                        }
+                    });
+                    threads[t].start();
+                }
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+                assert torn.get() == 0;
+                log.info("동시 기록 테스트 통과");
+            }
+        }
+
+        // 만료된 값은 반환하지 않음
+        try (SharedMemoryAuthCache cache = SharedMemoryAuthCache.open(directory, Duration.ofMillis(1),
+                Duration.ofDays(7), 64)) {
+            cache.putVerdict("expired", "password", SomansaAuthResult.of(Outcome.EMPLOYEE, "req-1"));
+            Thread.sleep(10);
+            assert cache.getVerdict("expired", "password") == null;
+            log.info("만료 테스트 통과");
+        }
+
+        // 기록 도중 종료된 프로세스가 남긴 홀수 버전 슬롯은 다음 쓰기가 회수
+        Path crashed = directory.resolve("crashed");
+        try (SharedMemoryAuthCache cache = SharedMemoryAuthCache.open(crashed, Duration.ofMinutes(10),
+                Duration.ofDays(7), 16)) {
+            cache.putUserName("chan4760", "서새찬");
+            int offset;
+            try (FileChannel channel = FileChannel.open(crashed.resolve(SharedMemoryAuthCache.dataFileName()),
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer file = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+                file.order(ByteOrder.nativeOrder());
+                offset = usedSlotOffset(file);
+                // 오래전에 시작한 쓰기 중 상태
+                file.putLong(offset, (1_000L << 1) | 1);
+                assert cache.getUserName("chan4760") == null;
+
+                cache.putUserName("chan4760", "서새찬");
+                assert "서새찬".equals(cache.getUserName("chan4760"));
+                assert (file.getLong(offset) & 1) == 0 : file.getLong(offset);
+                log.info("중단된 쓰기 슬롯 회수 테스트 통과 - 오프셋: {}", offset);
+
+                // 넘겨받힌 원래 쓰기가 재개되어 버전 변화 없이 다른 키의 값을 덮어써도 그 값을 반환하지 않음
+                cache.putUserName("hong", "홍길동");
+                int otherOffset = usedSlotOffset(file, offset);
+                byte[] otherValue = new byte[512 - 52];
+                file.get(otherOffset + 52, otherValue);
+                file.put(offset + 52, otherValue);
+                assert cache.getUserName("chan4760") == null;
+                assert "홍길동".equals(cache.getUserName("hong"));
+                log.info("재개된 쓰기 내용 검증 테스트 통과");
+            }
+        }
+
+        // 형식이 다른 파일은 자르지 않고 열기 거부 (다른 프로세스가 매핑 중일 수 있음)
+        Path mismatched = directory.resolve("mismatched");
+        Files.createDirectories(mismatched);
+        Path dataFile = mismatched.resolve(SharedMemoryAuthCache.dataFileName());
+        ByteBuffer header = ByteBuffer.allocate(4096);
+        header.putInt(0x534D5348).putInt(99).putInt(16).putInt(512);
+        Files.write(dataFile, header.array());
+        boolean rejected = false;
+        try (SharedMemoryAuthCache ignored = SharedMemoryAuthCache.open(mismatched, Duration.ofMinutes(10),
+                Duration.ofDays(7), 16)) {
+            assert false;
+        } catch (IOException e) {
+            rejected = true;
+        }
+        assert rejected && Files.size(dataFile) == 4096;
+        log.info("형식 불일치 파일 보존 테스트 통과");
+    }
+
+    private static int usedSlotOffset(MappedByteBuffer file) {
+        return usedSlotOffset(file, -1);
+    }
+
+    private static int usedSlotOffset(MappedByteBuffer file, int excluded) {
+        for (int offset = 64; offset < file.capacity(); offset += 512) {
+            if (offset != excluded && file.getLong(offset) != 0) {
+                return offset;
+            }
+        }
+        throw new AssertionError("기록된 슬롯 없음");
+    }
+
+    private SharedMemoryAuthCache open() throws Exception {
+        return SharedMemoryAuthCache.open(directory, Duration.ofMinutes(10), Duration.ofDays(7), 64);
+    }
+
+    /**
+     * 별도 JVM 에서 실행되는 기록 프로세스
+     */
+    static class Writer {
+
+        public static void main(String[] args) throws Exception {
+            try (SharedMemoryAuthCache cache = SharedMemoryAuthCache.open(Paths.get(args[0]),
+                    Duration.ofMinutes(10), Duration.ofDays(7), 64)) {
+                cache.putUserName("chan4760", "서새찬");
+                cache.putVerdict("chan4760", "password",
+                        SomansaAuthResult.of(Outcome.EMPLOYEE_MFA, "req-1"));
+            }
+        }
+    }
+}
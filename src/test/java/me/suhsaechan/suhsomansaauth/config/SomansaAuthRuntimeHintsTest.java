@@ -0,0 +1,42 @@
+package me.suhsaechan.suhsomansaauth.config;
+
+import lombok.extern.slf4j.Slf4j;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+/**
+ * 네이티브 이미지 실행 힌트 테스트
+ */
+@Slf4j
+class SomansaAuthRuntimeHintsTest {
+
+    @Test
+    void mainTest() throws Exception {
+        RuntimeHints hints = new RuntimeHints();
+        new SomansaAuthRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // OkHttp 공개 접미사 목록: 힌트 등록 및 실제 클래스패스 경로 확인
+        assert RuntimeHintsPredicates.resource().forResource(SomansaAuthRuntimeHints.PUBLIC_SUFFIX_RESOURCE).test(hints);
+        assert getClass().getClassLoader().getResource(SomansaAuthRuntimeHints.PUBLIC_SUFFIX_RESOURCE) != null;
+        log.info("리소스 힌트 테스트 통과");
+
+        // 설정 바인딩: 중첩 설정 클래스의 Setter 까지 등록
+        assert RuntimeHintsPredicates.reflection()
+                .onMethod(SomansaAuthProperties.Traffic.class.getMethod("setMode", SomansaAuthProperties.Traffic.Mode.class))
+                .test(hints);
+        assert RuntimeHintsPredicates.reflection()
+                .onType(SomansaAuthProperties.Cache.Type.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS)
+                .test(hints);
+        log.info("설정 바인딩 힌트 테스트 통과");
+
+        // 결과 DTO 직렬화
+        assert RuntimeHintsPredicates.reflection()
+                .onMethod(SomansaAuthResult.class.getMethod("getOutcome"))
+                .test(hints);
+        log.info("결과 DTO 힌트 테스트 통과");
+    }
+}
@@ -0,0 +1,55 @@
+package me.suhsaechan.suhsomansaauth.dto;
+
+import lombok.extern.slf4j.Slf4j;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult.Outcome;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 인증 결과 테스트
+ */
+@Slf4j
+class SomansaAuthResultTest {
+
+    @Test
+    void mainTest() {
+        // 부가 정보 없는 결과는 공유 상수
+        assert SomansaAuthResult.of(Outcome.EMPLOYEE) == SomansaAuthResult.EMPLOYEE;
+        assert SomansaAuthResult.of(Outcome.NOT_EMPLOYEE, null) == SomansaAuthResult.NOT_EMPLOYEE;
+        assert SomansaAuthResult.upstreamError(null) == SomansaAuthResult.UPSTREAM_ERROR;
+        log.info("공유 상수 테스트 통과");
+
+        // 결과 종류별 기존 Getter 값 유지
+        SomansaAuthResult mfa = SomansaAuthResult.of(Outcome.EMPLOYEE_MFA, "req-1");
+        assert mfa.isSomansaEmployee() && mfa.isAuthSuccess();
+        assert "소만사 직원입니다 (MFA 단계)".equals(mfa.getMessage());
+        assert "req-1".equals(mfa.getRequestId());
+        SomansaAuthResult notEmployee = SomansaAuthResult.NOT_EMPLOYEE;
+        assert !notEmployee.isSomansaEmployee();
+        assert "api.user.login.invalid_credentials_email_username".equals(notEmployee.getErrorId());
+        assert "SYSTEM_ERROR".equals(SomansaAuthResult.MISSING_PASSWORD.getErrorId());
+        assert "비밀번호가 필요합니다".equals(SomansaAuthResult.MISSING_PASSWORD.getMessage());
+        assert "인증 중 오류가 발생했습니다: timeout".equals(SomansaAuthResult.upstreamError("timeout").getMessage());
+        log.info("Getter 호환 테스트 통과");
+
+        // 이름 반영은 새 인스턴스, 원본은 그대로
+        SomansaAuthResult named = SomansaAuthResult.EMPLOYEE.withUserName("홍길동");
+        assert named != SomansaAuthResult.EMPLOYEE;
+        assert "소만사 직원입니다 (이름: 홍길동)".equals(named.getMessage());
+        assert "홍길동".equals(named.getUserName());
+        assert SomansaAuthResult.EMPLOYEE.getUserName() == null;
+        assert named.getOutcome() == Outcome.EMPLOYEE;
+        log.info("이름 반영 테스트 통과");
+
+        // 재시도하면 달라질 수 있는 결과는 확정 결과가 아님
+        assert Outcome.EMPLOYEE.isDecisive() && Outcome.NOT_EMPLOYEE.isDecisive();
+        assert !Outcome.UPSTREAM_ERROR.isDecisive() && !Outcome.RATE_LIMITED.isDecisive();
+        log.info("확정 결과 구분 테스트 통과");
+
+        // 호환용 팩토리는 결과 종류를 추정
+        @SuppressWarnings("deprecation")
+        SomansaAuthResult legacy = SomansaAuthResult.failure("직원 아님", "api.user.login.invalid_credentials_email_username", null);
+        assert legacy.getOutcome() == Outcome.NOT_EMPLOYEE;
+        assert "직원 아님".equals(legacy.getMessage());
+        log.info("호환용 팩토리 테스트 통과");
+    }
+}
@@ -0,0 +1,46 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthProperties;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 적응형 타임아웃 정책 테스트
+ */
+@Slf4j
+class AdaptiveTimeoutPolicyTest {
+
+    @Test
+    void mainTest() {
+        SomansaAuthProperties.Adaptive config = new SomansaAuthProperties.Adaptive();
+        config.setEnabled(true);
+        config.setMinSamples(100);
+        config.setFactor(3.0);
+        config.setMin(Duration.ofMillis(500));
+        config.setMax(Duration.ofSeconds(30));
+        AdaptiveTimeoutPolicy policy = new AdaptiveTimeoutPolicy(config);
+
+        // 샘플 부족 시 상한 사용
+        assert policy.currentTimeoutMillis(SomansaEndpoint.MATTERMOST_LOGIN) == 30_000;
+        log.info("샘플 부족 시 상한 적용 테스트 통과");
+
+        // 200ms 전후 지연시간 관측 → 약 600ms 타임아웃
+        for (int i = 0; i < 1000; i++) {
+            policy.record(SomansaEndpoint.MATTERMOST_LOGIN, 150 + (i % 50));
+        }
+        long timeout = policy.currentTimeoutMillis(SomansaEndpoint.MATTERMOST_LOGIN);
+        log.info("산정된 타임아웃: {}ms", timeout);
+        assert timeout >= 500 && timeout <= 1000;
+
+        // 엔드포인트별로 독립 추적
+        assert policy.currentTimeoutMillis(SomansaEndpoint.BUS_HOME) == 30_000;
+
+        // 하한 적용
+        for (int i = 0; i < 1000; i++) {
+            policy.record(SomansaEndpoint.BUS_HOME, 5);
+        }
+        assert policy.currentTimeoutMillis(SomansaEndpoint.BUS_HOME) == 500;
+        log.info("엔드포인트별 추적 및 하한 적용 테스트 통과");
+    }
+}
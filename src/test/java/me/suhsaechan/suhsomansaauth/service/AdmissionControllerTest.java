@@ -0,0 +1,103 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthProperties;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 작업 등급별 수용 제어 테스트
+ */
+@Slf4j
+class AdmissionControllerTest {
+
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void mainTest() throws Exception {
+        SomansaAuthProperties.Admission config = new SomansaAuthProperties.Admission();
+        config.setMaxConcurrent(1);
+        config.setMaxQueued(3);
+        config.getInteractive().setQueueCapacity(2);
+        config.getEnrichment().setMaxQueueTime(Duration.ofMillis(50));
+        AdmissionStats stats = new AdmissionStats();
+        AdmissionController admission = new AdmissionController(config, stats);
+
+        // 자리가 있으면 즉시 허가
+        AdmissionController.Ticket running = admission.acquire(WorkClass.INTERACTIVE);
+        assert running != null;
+
+        // 자리가 없으면 등급별 대기
+        request(admission, WorkClass.BATCH, "batch1");
+        request(admission, WorkClass.BATCH, "batch2");
+        request(admission, WorkClass.INTERACTIVE, "interactive1");
+        assert events.isEmpty();
+        assert admission.queueLength(WorkClass.BATCH) == 2;
+
+        // 전체 대기열이 가득 차면 가장 낮은 등급의 최근 대기 작업부터 제거
+        request(admission, WorkClass.INTERACTIVE, "interactive2");
+        assert events.equals(List.of("batch2:dropped"));
+        assert admission.queueLength(WorkClass.INTERACTIVE) == 2;
+        assert stats.getShed(WorkClass.BATCH) == 1;
+
+        // 등급별 대기열이 가득 차면 거절
+        request(admission, WorkClass.INTERACTIVE, "interactive3");
+        assert events.equals(List.of("batch2:dropped", "interactive3:dropped"));
+        assert stats.getRejected(WorkClass.INTERACTIVE) == 1;
+        log.info("대기열 초과 시 낮은 등급 제거 테스트 통과: {}", events);
+
+        // 더 낮은 등급이 없으면 제거 대신 거절
+        events.clear();
+        // 만료 시점과 무관하게 검증하도록 이름 보강 작업의 결과는 따로 받음
+        CompletableFuture<String> enrichment = new CompletableFuture<>();
+        admission.acquireAsync(WorkClass.ENRICHMENT,
+                ticket -> enrichment.complete("admitted"),
+                () -> enrichment.complete("dropped"));
+        request(admission, WorkClass.BATCH, "batch3");
+        assert events.equals(List.of("batch1:dropped", "batch3:dropped"));
+        assert stats.getShed(WorkClass.BATCH) == 2;
+        assert stats.getRejected(WorkClass.BATCH) == 1;
+
+        // 이름 보강은 대기 시간 상한을 넘기면 제거 (호출 측은 이름 없이 응답)
+        assert "dropped".equals(enrichment.get(5, TimeUnit.SECONDS));
+        assert admission.queueLength(WorkClass.ENRICHMENT) == 0;
+        assert stats.getExpired(WorkClass.ENRICHMENT) == 1;
+        log.info("대기 시간 초과 테스트 통과");
+
+        // 자리가 나면 높은 등급부터 허가
+        events.clear();
+        running.close();
+        assert events.equals(List.of("interactive1:admitted"));
+        assert admission.running() == 1;
+
+        // 허가 전 취소한 작업은 자리를 차지하지 않음
+        AdmissionController.Ticket withdrawn = request(admission, WorkClass.BATCH, "batch4");
+        assert admission.queueLength(WorkClass.BATCH) == 1;
+        withdrawn.close();
+        assert admission.queueLength(WorkClass.BATCH) == 0;
+
+        // 여러 번 close 해도 자리는 한 번만 반환
+        running.close();
+        assert admission.running() == 1;
+        log.info("우선순위 허가 테스트 통과 - {}", stats);
+
+        // 비활성화 시 제한 없음
+        SomansaAuthProperties.Admission disabled = new SomansaAuthProperties.Admission();
+        disabled.setEnabled(false);
+        AdmissionController unlimited = new AdmissionController(disabled, new AdmissionStats());
+        for (int i = 0; i < 1000; i++) {
+            assert unlimited.acquire(WorkClass.BATCH) != null;
+        }
+    }
+
+    private AdmissionController.Ticket request(AdmissionController admission, WorkClass workClass, String name) {
+        return admission.acquireAsync(workClass,
+                ticket -> events.add(name + ":admitted"),
+                () -> events.add(name + ":dropped"));
+    }
+}
@@ -0,0 +1,239 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthProperties;
+import okhttp3.Cookie;
+import okhttp3.CookieJar;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 버스 시스템 세션 상태 머신 테스트 (가짜 버스 서버 응답 사용)
+ */
+@Slf4j
+class BusSessionFlowTest {
+
+    private static final Map<String, String> USER_NAMES = Map.of(
+            "chan4760@somansa.com", "서새찬",
+            "other@somansa.com", "홍길동");
+    private static final String LOGIN_PAGE_ETAG = "\"login-v1\"";
+
+    private final List<String> calls = new ArrayList<>();
+    // 서버 측 세션 (세션 쿠키 값 → CreateSession 으로 기록된 로그인 ID)
+    private final Map<String, String> sessions = new HashMap<>();
+    private int nextSessionId;
+    private boolean homeMissingSessionOnce;
+    private boolean notModifiedWithoutCookieOnce;
+    private boolean createSessionRenewsCookieOnce;
+    private CookieJar fakeCookieJar;
+
+    @Test
+    void mainTest() throws IOException {
+        OkHttpClient baseClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> fakeBusServer(chain.request()))
+                .build();
+        BusSessionStats stats = new BusSessionStats();
+        BusSessionFlow flow = new BusSessionFlow(
+                new UpstreamHttpClient(baseClient, new AdaptiveTimeoutPolicy(new SomansaAuthProperties.Adaptive()),
+                        new RetryPolicy(new SomansaAuthProperties.Retry(), new RetryStats())),
+                stats);
+        BusSessionContext context = new BusSessionContext(baseClient);
+        fakeCookieJar = context.client().cookieJar();
+
+        // 첫 조회: 두 번째 CreateSession 생략
+        assert "서새찬".equals(flow.run(context, "chan4760@somansa.com"));
+        assert calls.equals(List.of("Login.aspx", "LoginCheck", "CreateSession", "Home.aspx"));
+        log.info("첫 조회 테스트 통과: {}", calls);
+
+        // 같은 세션/사용자 재조회: Home 만 호출
+        calls.clear();
+        assert "서새찬".equals(flow.run(context, "chan4760@somansa.com"));
+        assert calls.equals(List.of("Home.aspx"));
+        log.info("세션 재사용 테스트 통과: {}", calls);
+
+        // Home 에서 세션 상태 누락 시 두 번째 CreateSession 재시도
+        calls.clear();
+        homeMissingSessionOnce = true;
+        BusSessionContext retryContext = new BusSessionContext(baseClient);
+        fakeCookieJar = retryContext.client().cookieJar();
+        assert "서새찬".equals(flow.run(retryContext, "chan4760@somansa.com"));
+        assert calls.equals(List.of("Login.aspx:304", "LoginCheck", "CreateSession", "Home.aspx", "CreateSession", "Home.aspx"));
+        log.info("세션 누락 재시도 테스트 통과: {}", calls);
+
+        log.info("{}", stats);
+        assert stats.getLookups() == 3;
+        assert stats.getSuccesses() == 3;
+        assert stats.getRetried(BusSessionStep.CONFIRM_SESSION) == 1;
+        // 생략 6회 (1 + 4 + 1) - 재시도 1회
+        assert stats.getHopsSaved() == 5;
+        // Home 본문은 이름 요소 이후를 읽지 않음
+        assert stats.getPartialReads() == 3;
+        log.info("본문 부분 읽기 테스트 통과");
+
+        // 스크립트 속 ID 언급 뒤 닫는 태그가 이어져도 부분 파싱은 한 번뿐이고, 전체 본문으로 이름 추출
+        StringBuilder scriptFirst = new StringBuilder("<html><head><script>\nvar id = 'noticeClear';\n");
+        for (int i = 0; i < 200; i++) {
+            scriptFirst.append("<span>").append(i).append("</span>\n");
+        }
+        scriptFirst.append("</script></head><body><span id=\"noticeClear\">서새찬</span></body></html>\n");
+        assert "서새찬".equals(flow.extractUserName(
+                ResponseBody.create(scriptFirst.toString(), MediaType.get("text/html"))));
+        assert stats.getPartialReads() == 3;
+        log.info("이름 요소 이전 ID 언급 테스트 통과");
+
+        // 새 세션: 로그인 페이지는 ETag 조건부 요청 - 304 응답의 쿠키만 사용
+        calls.clear();
+        BusSessionContext second = new BusSessionContext(baseClient);
+        fakeCookieJar = second.client().cookieJar();
+        assert "서새찬".equals(flow.run(second, "chan4760@somansa.com"));
+        assert calls.equals(List.of("Login.aspx:304", "LoginCheck", "CreateSession", "Home.aspx"));
+        assert stats.getNotModified() == 2;
+        log.info("조건부 요청 테스트 통과: {}", calls);
+
+        // 304 응답에 세션 쿠키가 없으면 전체 요청으로 재시도
+        calls.clear();
+        notModifiedWithoutCookieOnce = true;
+        BusSessionContext third = new BusSessionContext(baseClient);
+        fakeCookieJar = third.client().cookieJar();
+        assert "서새찬".equals(flow.run(third, "chan4760@somansa.com"));
+        assert calls.equals(List.of("Login.aspx:304", "Login.aspx", "LoginCheck", "CreateSession", "Home.aspx"));
+        log.info("조건부 요청 실패 대비 테스트 통과: {}", calls);
+
+        // 풀에서 같은 세션을 다른 사용자가 이어서 사용: 새 세션으로 시작, 두 번째 CreateSession 은 응답에 따라 생략
+        BusSessionPool pool = new BusSessionPool(baseClient, 4, 60_000);
+        BusSessionContext pooled = pool.acquire();
+        fakeCookieJar = pooled.client().cookieJar();
+        assert "서새찬".equals(flow.run(pooled, "chan4760@somansa.com"));
+        pool.release(pooled);
+        calls.clear();
+        BusSessionContext reused = pool.acquire();
+        assert reused == pooled;
+        assert "홍길동".equals(flow.run(reused, "other@somansa.com"));
+        assert calls.equals(List.of("Login.aspx:304", "LoginCheck", "CreateSession", "Home.aspx"));
+        assert reused.isSessionReadyFor("other@somansa.com") && !reused.isBoundTo("chan4760@somansa.com");
+        log.info("세션 풀 사용자 전환 테스트 통과: {}", calls);
+
+        // 사용자 전환 후 첫 CreateSession 응답이 세션을 새로 발급하면 두 번째 CreateSession 수행
+        pool.release(reused);
+        calls.clear();
+        createSessionRenewsCookieOnce = true;
+        BusSessionContext switched = pool.acquire();
+        assert switched == pooled;
+        assert "서새찬".equals(flow.run(switched, "chan4760@somansa.com"));
+        assert calls.equals(List.of("Login.aspx:304", "LoginCheck", "CreateSession", "CreateSession", "Home.aspx"));
+        log.info("사용자 전환 세션 확정 테스트 통과: {}", calls);
+    }
+
+    /**
+     * 버스 서버 흉내 - BridgeInterceptor 대신 쿠키 저장도 직접 수행
+     */
+    private Response fakeBusServer(Request request) {
+        String path = request.url().encodedPath();
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        calls.add(name);
+
+        Response.Builder builder = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK");
+        String body = "";
+        switch (name) {
+            case "Login.aspx":
+                if (LOGIN_PAGE_ETAG.equals(request.header("If-None-Match"))) {
+                    calls.set(calls.size() - 1, "Login.aspx:304");
+                    builder.code(304).message("Not Modified");
+                    if (notModifiedWithoutCookieOnce) {
+                        notModifiedWithoutCookieOnce = false;
+                    } else {
+                        builder.header("Set-Cookie", newSessionCookie());
+                    }
+                    break;
+                }
+                builder.header("Set-Cookie", newSessionCookie());
+                builder.header("ETag", LOGIN_PAGE_ETAG);
+                body = "<html></html>";
+                break;
+            case "LoginCheck":
+                body = "{\"d\":126491}";
+                break;
+            case "CreateSession":
+                // 요청 본문 {"data": "로그인ID,승객ID,,pc"} 의 로그인 ID 를 현재 세션에 기록
+                String data = bodyOf(request);
+                String sessionLoginId = data.substring(data.indexOf(": \"") + 3, data.indexOf(','));
+                if (createSessionRenewsCookieOnce) {
+                    // 세션을 새로 발급 - 두 번째 CreateSession 으로 새 세션에 로그인 ID 를 기록해야 함
+                    createSessionRenewsCookieOnce = false;
+                    builder.header("Set-Cookie", newSessionCookie());
+                } else {
+                    sessions.put(sessionId(request), sessionLoginId);
+                }
+                body = "{\"d\":null}";
+                break;
+            case "Home.aspx":
+                String userName = USER_NAMES.get(sessions.get(sessionId(request)));
+                if (homeMissingSessionOnce || userName == null) {
+                    homeMissingSessionOnce = false;
+                    body = "<html><body>세션 없음</body></html>";
+                } else {
+                    body = homeHtml(userName);
+                }
+                break;
+            default:
+                builder.code(404).message("Not Found");
+        }
+        Response response = builder
+                .body(ResponseBody.create(body, MediaType.get("text/html; charset=utf-8")))
+                .build();
+
+        HttpUrl url = request.url();
+        List<Cookie> cookies = Cookie.parseAll(url, response.headers());
+        if (!cookies.isEmpty()) {
+            fakeCookieJar.saveFromResponse(url, cookies);
+        }
+        return response;
+    }
+
+    private String newSessionCookie() {
+        return "ASP.NET_SessionId=s" + (++nextSessionId) + "; path=/; HttpOnly";
+    }
+
+    /**
+     * 요청에 실릴 세션 쿠키 값 (쿠키 저장소에서 직접 조회)
+     */
+    private String sessionId(Request request) {
+        for (Cookie cookie : fakeCookieJar.loadForRequest(request.url())) {
+            if (cookie.name().equals("ASP.NET_SessionId")) {
+                return cookie.value();
+            }
+        }
+        return null;
+    }
+
+    private static String bodyOf(Request request) {
+        try {
+            Buffer buffer = new Buffer();
+            request.body().writeTo(buffer);
+            return buffer.readUtf8();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String homeHtml(String userName) {
+        return "<html><body>\n<span id=\"noticeClear\">" + userName + "</span>\n"
+                + "<div>공지사항</div>\n".repeat(200) + "</body></html>";
+    }
+}
@@ -0,0 +1,160 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import me.suhsaechan.suhsomansaauth.dto.NameResolution;
+import me.suhsaechan.suhsomansaauth.util.RateLimiter;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 일괄 이름 조회 작업 테스트 (버스 시스템 대신 가짜 조회 함수 사용)
+ */
+@Slf4j
+class NameResolutionJobTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final OkHttpClient baseClient = new OkHttpClient();
+
+    @Test
+    void mainTest() throws Exception {
+        // 실패 수집: 이름 없음/예외 모두 실패 목록에 입력 순서대로 남고, 실패한 워커는 새 세션 사용
+        AtomicInteger contexts = new AtomicInteger();
+        List<NameResolution> delivered = Collections.synchronizedList(new ArrayList<>());
+        NameResolutionJob job = new NameResolutionJob(
+                List.of("a@somansa.com", "fail-null@somansa.com", "b@somansa.com", "fail-error@somansa.com",
+                        "c@somansa.com", "a@somansa.com"),
+                3,
+                new RateLimiter(0),
+                () -> {
+                    contexts.incrementAndGet();
+                    return new BusSessionContext(baseClient);
+                },
+                (context, loginId, rateLimiter) -> {
+                    if (loginId.equals("fail-null@somansa.com")) {
+                        return null;
+                    }
+                    if (loginId.equals("fail-error@somansa.com")) {
+                        throw new IllegalStateException("부하로 일괄 조회가 보류되었습니다");
+                    }
+                    return "이름-" + loginId;
+                },
+                delivered::add);
+        job.start();
+        assert job.awaitCompletion(TIMEOUT) && job.isDone();
+        assert job.getTotal() == 5 && job.getCompletedCount() == 5;
+        assert job.getResolvedCount() == 3 && job.getFailedCount() == 2;
+        assert job.getFailedLoginIds().equals(List.of("fail-null@somansa.com", "fail-error@somansa.com"));
+        assert job.getRemainingLoginIds().isEmpty();
+        assert delivered.size() == 5;
+        assert contexts.get() == 3 + 2;
+        log.info("실패 수집 테스트 통과 - 실패: {}", job.getFailedLoginIds());
+
+        // 취소: 진행 중인 조회는 끝까지 수행하고 나머지는 남은 목록으로
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> ids = List.of("1@somansa.com", "2@somansa.com", "3@somansa.com", "4@somansa.com");
+        NameResolutionJob cancelled = new NameResolutionJob(ids, 1, new RateLimiter(0),
+                () -> new BusSessionContext(baseClient),
+                (context, loginId, rateLimiter) -> {
+                    if (loginId.equals("2@somansa.com")) {
+                        entered.countDown();
+                        awaitQuietly(release);
+                    }
+                    return "이름-" + loginId;
+                },
+                resolution -> { });
+        cancelled.start();
+        assert entered.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        cancelled.cancel();
+        release.countDown();
+        assert cancelled.awaitCompletion(TIMEOUT);
+        assert cancelled.isCancelled();
+        assert cancelled.getResolvedCount() == 2;
+        assert cancelled.getRemainingLoginIds().equals(List.of("3@somansa.com", "4@somansa.com"));
+        log.info("취소 테스트 통과 - 남은 ID: {}", cancelled.getRemainingLoginIds());
+
+        // 재시작: 남은 ID 만 조회
+        List<String> resolvedOnRestart = Collections.synchronizedList(new ArrayList<>());
+        NameResolutionJob restarted = new NameResolutionJob(cancelled.getRemainingLoginIds(), 2, new RateLimiter(0),
+                () -> new BusSessionContext(baseClient),
+                (context, loginId, rateLimiter) -> {
+                    resolvedOnRestart.add(loginId);
+                    return "이름-" + loginId;
+                },
+                resolution -> { });
+        restarted.start();
+        assert restarted.awaitCompletion(TIMEOUT);
+        assert restarted.getResolvedCount() == 2 && restarted.getRemainingLoginIds().isEmpty();
+        assert resolvedOnRestart.size() == 2 && resolvedOnRestart.containsAll(List.of("3@somansa.com", "4@somansa.com"));
+        log.info("재시작 테스트 통과");
+
+        // 속도 제한기 공유: 두 작업의 워커 4개가 합쳐서 초당 50회 (20ms 간격) 를 넘지 않음
+        RateLimiter shared = new RateLimiter(50);
+        ConcurrentLinkedQueue<Long> startedAt = new ConcurrentLinkedQueue<>();
+        List<NameResolutionJob> jobs = new ArrayList<>();
+        for (int j = 0; j < 2; j++) {
+            List<String> batch = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                batch.add("job" + j + "-" + i + "@somansa.com");
+            }
+            jobs.add(new NameResolutionJob(batch, 2, shared,
+                    () -> new BusSessionContext(baseClient),
+                    (context, loginId, rateLimiter) -> {
+                        rateLimiter.acquire();
+                        startedAt.add(System.nanoTime());
+                        return "이름-" + loginId;
+                    },
+                    resolution -> { }));
+        }
+        jobs.forEach(NameResolutionJob::start);
+        for (NameResolutionJob each : jobs) {
+            assert each.awaitCompletion(TIMEOUT);
+        }
+        List<Long> starts = new ArrayList<>(startedAt);
+        Collections.sort(starts);
+        long spanMillis = TimeUnit.NANOSECONDS.toMillis(starts.get(starts.size() - 1) - starts.get(0));
+        assert starts.size() == 10;
+        // 10회 호출 = 첫 호출 이후 9 간격 (180ms), 슬립 정밀도 여유 10ms
+        assert spanMillis >= 170 : spanMillis;
+        log.info("속도 제한기 공유 테스트 통과 ({}ms)", spanMillis);
+
+        // 캐시 적중은 속도 제한 없이 처리: 초당 1회 제한에서 캐시 10건 + 미스 1건이 1초 안에 끝남
+        List<String> mostlyCached = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            mostlyCached.add("cached" + i + "@somansa.com");
+        }
+        mostlyCached.add("miss@somansa.com");
+        NameResolutionJob cachedJob = new NameResolutionJob(mostlyCached, 2, new RateLimiter(1),
+                () -> new BusSessionContext(baseClient),
+                (context, loginId, rateLimiter) -> {
+                    if (!loginId.startsWith("cached")) {
+                        rateLimiter.acquire();
+                    }
+                    return "이름-" + loginId;
+                },
+                resolution -> { });
+        long cachedStart = System.nanoTime();
+        cachedJob.start();
+        assert cachedJob.awaitCompletion(TIMEOUT) && cachedJob.getResolvedCount() == 11;
+        long cachedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - cachedStart);
+        assert cachedMillis < 1000 : cachedMillis;
+        log.info("캐시 적중 속도 제한 제외 테스트 통과 ({}ms)", cachedMillis);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthProperties;
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthProperties.Provider.Mode;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult.Outcome;
+import me.suhsaechan.suhsomansaauth.provider.MattermostAuthProvider;
+import me.suhsaechan.suhsomansaauth.provider.SomansaAuthProvider;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 인증 제공자 순차/동시 조회 테스트
+ */
+@Slf4j
+class ProviderAuthenticatorTest {
+
+    private static final String MFA = "{\"id\":\"mfa.validate_token.authenticate.app_error\",\"request_id\":\"req-b\"}";
+    private static final String INVALID = "{\"id\":\"api.user.login.invalid_credentials_email_username\"}";
+    private static final String USER = "{\"id\":\"u1\",\"first_name\":\"길동\",\"last_name\":\"홍\"}";
+
+    // 호스트별 응답 {응답 코드, 본문} (응답 코드 null: 취소될 때까지 대기)
+    private final Map<String, Object[]> responses = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final AtomicBoolean slowCallCanceled = new AtomicBoolean();
+
+    @Test
+    void mainTest() throws Exception {
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(this::fakeServer)
+                .build();
+        SomansaAuthProperties.Retry retry = new SomansaAuthProperties.Retry();
+        retry.setEnabled(false);
+        UpstreamHttpClient upstream = new UpstreamHttpClient(client,
+                new AdaptiveTimeoutPolicy(new SomansaAuthProperties.Adaptive()),
+                new RetryPolicy(retry, new RetryStats()));
+        List<SomansaAuthProvider> providers = List.of(
+                new MattermostAuthProvider("https://a.example"),
+                new MattermostAuthProvider("https://b.example/"));
+
+        ProviderAuthenticator fanOut = new ProviderAuthenticator(providers, Mode.FAN_OUT, upstream);
+        ProviderAuthenticator sequential = new ProviderAuthenticator(providers, Mode.SEQUENTIAL, upstream);
+
+        // 동시 조회: 응답이 멈춘 제공자를 기다리지 않고 먼저 확인된 결과 반환
+        hang("a.example");
+        respond("b.example", 401, MFA);
+        long startNanos = System.nanoTime();
+        SomansaAuthResult result1 = fanOut.authenticate("user", "pw");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        assert result1.getOutcome() == Outcome.EMPLOYEE_MFA;
+        assert "req-b".equals(result1.getRequestId());
+        assert elapsedMillis < 2_000 : elapsedMillis;
+        for (int i = 0; i < 100 && !slowCallCanceled.get(); i++) {
+            Thread.sleep(20);
+        }
+        assert slowCallCanceled.get();
+        log.info("동시 조회 - 먼저 확인된 결과 반환 및 나머지 취소 테스트 통과 (" + elapsedMillis + "ms)");
+
+        // 동시 조회: 모두 거부하면 직원 아님 (확정 결과)
+        respond("a.example", 401, INVALID);
+        respond("b.example", 401, INVALID);
+        SomansaAuthResult result2 = fanOut.authenticate("user", "pw");
+        assert result2.getOutcome() == Outcome.NOT_EMPLOYEE;
+        log.info("동시 조회 - 모두 거부 테스트 통과");
+
+        // 동시 조회: 한 곳이라도 오류면 직원 아님으로 확정하지 않음
+        respond("a.example", 500, "");
+        respond("b.example", 401, INVALID);
+        SomansaAuthResult result3 = fanOut.authenticate("user", "pw");
+        assert result3.getOutcome() == Outcome.UPSTREAM_ERROR;
+        assert !result3.getOutcome().isDecisive();
+        log.info("동시 조회 - 일부 오류 테스트 통과");
+
+        // 순차 조회: 첫 제공자가 확인하면 다음 제공자는 호출하지 않음, 응답의 이름 반영
+        calls.clear();
+        respond("a.example", 200, USER);
+        respond("b.example", 401, MFA);
+        SomansaAuthResult result4 = sequential.authenticate("user", "pw");
+        assert result4.getOutcome() == Outcome.EMPLOYEE;
+        assert "홍길동".equals(result4.getUserName());
+        assert callCount("a.example") == 1 && callCount("b.example") == 0;
+        log.info("순차 조회 - 조기 종료 및 이름 추출 테스트 통과");
+
+        // 순차 조회 (비동기): 거부되면 다음 제공자 조회
+        calls.clear();
+        respond("a.example", 401, INVALID);
+        respond("b.example", 401, MFA);
+        CompletableFuture<SomansaAuthResult> future = new CompletableFuture<>();
+        sequential.authenticateAsync("user", "pw", future::complete);
+        assert future.get(5, TimeUnit.SECONDS).getOutcome() == Outcome.EMPLOYEE_MFA;
+        assert callCount("a.example") == 1 && callCount("b.example") == 1;
+        log.info("순차 조회 (비동기) 테스트 통과");
+
+        // 동시 조회 (비동기) 취소: 결과를 전달하지 않음
+        slowCallCanceled.set(false);
+        hang("a.example");
+        hang("b.example");
+        CompletableFuture<SomansaAuthResult> canceled = new CompletableFuture<>();
+        AsyncOperation operation = fanOut.authenticateAsync("user", "pw", canceled::complete);
+        Thread.sleep(100);
+        operation.cancel();
+        for (int i = 0; i < 100 && !slowCallCanceled.get(); i++) {
+            Thread.sleep(20);
+        }
+        assert slowCallCanceled.get();
+        Thread.sleep(100);
+        assert !canceled.isDone();
+        log.info("동시 조회 취소 테스트 통과");
+    }
+
+    private void respond(String host, Integer code, String body) {
+        responses.put(host, new Object[]{code, body});
+    }
+
+    private void hang(String host) {
+        responses.put(host, new Object[]{null, null});
+    }
+
+    private int callCount(String host) {
+        AtomicInteger count = calls.get(host);
+        return count != null ? count.get() : 0;
+    }
+
+    private Response fakeServer(Interceptor.Chain chain) throws IOException {
+        String host = chain.request().url().host();
+        calls.computeIfAbsent(host, key -> new AtomicInteger()).incrementAndGet();
+        Object[] response = responses.get(host);
+        if (response[0] == null) {
+            // 응답이 멈춘 상류: 호출이 취소될 때까지 대기
+            while (!chain.call().isCanceled()) {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            slowCallCanceled.set(true);
+            throw new IOException("Canceled");
+        }
+        return new Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code((Integer) response[0])
+                .message("fake")
+                .body(ResponseBody.create((String) response[1], MediaType.get("application/json")))
+                .build();
+    }
+}
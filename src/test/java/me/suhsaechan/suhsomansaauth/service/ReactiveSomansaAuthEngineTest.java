@@ -0,0 +1,178 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import me.suhsaechan.suhsomansaauth.cache.SomansaAuthCache;
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthProperties;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult.Outcome;
+import me.suhsaechan.suhsomansaauth.provider.MattermostAuthProvider;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+/**
+ * 소만사 인증 엔진 리액티브 파사드 테스트
+ */
+@Slf4j
+class ReactiveSomansaAuthEngineTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final String MFA_BODY = "{\"id\":\"mfa.validate_token.authenticate.app_error\"}";
+    private static final String BROKEN_BODY = "{\"id\":\"broken\"}";
+
+    private final CountDownLatch hangingCallStarted = new CountDownLatch(1);
+    private final CountDownLatch hangingCallCanceled = new CountDownLatch(1);
+
+    @Test
+    void mainTest() throws Exception {
+        ReactiveSomansaAuthEngine reactiveEngine = new ReactiveSomansaAuthEngine(new SomansaAuthEngine());
+
+        // 입력값 검증은 요청 없이 즉시 완료
+        SomansaAuthResult result1 = reactiveEngine.isSomansaEmployee("", "password").block();
+        assert result1 != null && !result1.isSomansaEmployee();
+        assert "로그인 ID가 필요합니다".equals(result1.getMessage());
+        log.info("빈 로그인 ID 테스트 통과");
+
+        SomansaAuthResult result2 = reactiveEngine.getSomansaEmployeeInfo("testuser", null).block();
+        assert result2 != null && !result2.isSomansaEmployee();
+        assert "비밀번호가 필요합니다".equals(result2.getMessage());
+        log.info("null 비밀번호 테스트 통과");
+
+        // 동시 처리 1개: 취소/오류 후 수용 티켓이 반환되지 않으면 다음 요청이 대기열에서 만료됨
+        OkHttpClient fakeUpstream = new OkHttpClient.Builder()
+                .addInterceptor(this::fakeUpstream)
+                .build();
+        SomansaAuthProperties properties = new SomansaAuthProperties();
+        properties.getCache().setType(SomansaAuthProperties.Cache.Type.NONE);
+        properties.getRetry().setEnabled(false);
+        properties.getAdmission().setMaxConcurrent(1);
+        SomansaAuthEngine engine = new SomansaAuthEngine(properties, fakeUpstream, null,
+                List.of(new BrokenClassifyProvider()));
+        ReactiveSomansaAuthEngine reactive = new ReactiveSomansaAuthEngine(engine);
+        try {
+            // 구독 해제 시 진행 중인 OkHttp 호출 취소
+            Disposable subscription = reactive.isSomansaEmployee("hang@somansa.com", "pw").subscribe();
+            assert hangingCallStarted.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            subscription.dispose();
+            assert hangingCallCanceled.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            SomansaAuthResult afterCancel = reactive.isSomansaEmployee("chan4760@somansa.com", "pw").block(TIMEOUT);
+            assert afterCancel != null && afterCancel.getOutcome() == Outcome.EMPLOYEE_MFA : afterCancel;
+            log.info("구독 해제 시 호출 취소 테스트 통과");
+
+            // 응답 처리 중 예외: Mono 가 오류 결과로 완료되고 티켓 반환
+            SomansaAuthResult broken = reactive.isSomansaEmployee("broken@somansa.com", "pw").block(TIMEOUT);
+            assert broken != null && broken.getOutcome() == Outcome.UPSTREAM_ERROR : broken;
+            SomansaAuthResult afterError = reactive.isSomansaEmployee("chan4760@somansa.com", "pw").block(TIMEOUT);
+            assert afterError != null && afterError.getOutcome() == Outcome.EMPLOYEE_MFA : afterError;
+            log.info("응답 처리 오류 완료 테스트 통과 - " + broken.getMessage());
+        } finally {
+            engine.close();
+        }
+
+        // 블로킹 캐시는 구독 스레드나 OkHttp 디스패처가 아닌 캐시 전용 스레드에서 호출
+        ThreadRecordingCache blockingCache = new ThreadRecordingCache();
+        SomansaAuthEngine cachedEngine = new SomansaAuthEngine(properties, fakeUpstream, blockingCache,
+                List.of(new MattermostAuthProvider()));
+        try {
+            SomansaAuthResult info = new ReactiveSomansaAuthEngine(cachedEngine)
+                    .getSomansaEmployeeInfo("chan4760@somansa.com", "pw").block(TIMEOUT);
+            assert info != null && "서새찬".equals(info.getUserName()) : info;
+            assert blockingCache.threads.size() >= 2 : blockingCache.threads;
+            for (String thread : blockingCache.threads) {
+                assert thread.startsWith("somansa-auth-cache-") : blockingCache.threads;
+            }
+            log.info("블로킹 캐시 전용 스레드 조회 테스트 통과 - " + blockingCache.threads);
+        } finally {
+            cachedEngine.close();
+        }
+    }
+
+    /**
+     * 가짜 상류 - hang 은 취소될 때까지 응답하지 않고, broken 은 분류할 수 없는 본문 반환
+     */
+    private Response fakeUpstream(Interceptor.Chain chain) throws IOException {
+        String payload = requestBody(chain);
+        if (payload.contains("hang@somansa.com")) {
+            hangingCallStarted.countDown();
+            while (!chain.call().isCanceled()) {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            hangingCallCanceled.countDown();
+            throw new IOException("Canceled");
+        }
+        String body = payload.contains("broken@somansa.com") ? BROKEN_BODY : MFA_BODY;
+        return new Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(401)
+                .message("Unauthorized")
+                .body(ResponseBody.create(body, MediaType.get("application/json")))
+                .build();
+    }
+
+    private static String requestBody(Interceptor.Chain chain) throws IOException {
+        okio.Buffer buffer = new okio.Buffer();
+        chain.request().body().writeTo(buffer);
+        return buffer.readUtf8();
+    }
+
+    /**
+     * 호출 스레드를 기록하는 블로킹 캐시 (이름만 보관)
+     */
+    private static final class ThreadRecordingCache implements SomansaAuthCache {
+
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        @Override
+        public SomansaAuthResult getVerdict(String loginId, String password) {
+            threads.add(Thread.currentThread().getName());
+            return null;
+        }
+
+        @Override
+        public void putVerdict(String loginId, String password, SomansaAuthResult result) {
+            threads.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public String getUserName(String loginId) {
+            threads.add(Thread.currentThread().getName());
+            return "서새찬";
+        }
+
+        @Override
+        public void putUserName(String loginId, String userName) {
+            threads.add(Thread.currentThread().getName());
+        }
+    }
+
+    /**
+     * 분류 중 예외를 던지는 제공자 (응답 파서 결함 재현)
+     */
+    private static final class BrokenClassifyProvider extends MattermostAuthProvider {
+
+        @Override
+        public SomansaAuthResult classify(int statusCode, String responseBody) {
+            if (BROKEN_BODY.equals(responseBody)) {
+                throw new IllegalStateException("알 수 없는 응답 형식");
+            }
+            return super.classify(statusCode, responseBody);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthHealthIndicator;
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthProperties;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult.Outcome;
+import me.suhsaechan.suhsomansaauth.traffic.TrafficReplayer;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * 외부 시스템 상태 확인 및 빠른 실패 테스트
+ */
+@Slf4j
+class UpstreamHealthMonitorTest {
+
+    private static final String MATTERMOST = "Mattermost(https://mattermost.somansa.com)";
+    private static final String MFA_BODY = "{\"id\":\"mfa.validate_token.authenticate.app_error\"}";
+
+    private final AtomicBoolean mattermostUp = new AtomicBoolean(true);
+    private final AtomicBoolean busUp = new AtomicBoolean(true);
+    private final AtomicInteger probes = new AtomicInteger();
+    private final AtomicInteger loginCalls = new AtomicInteger();
+    private final AtomicInteger busCalls = new AtomicInteger();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void mainTest() throws Exception {
+        OkHttpClient fakeUpstream = new OkHttpClient.Builder()
+                .addInterceptor(this::fakeUpstream)
+                .build();
+        SomansaAuthProperties properties = new SomansaAuthProperties();
+        properties.setLazyInit(false);
+        properties.getCache().setType(SomansaAuthProperties.Cache.Type.NONE);
+        properties.getRetry().setEnabled(false);
+        properties.getHealth().setEnabled(true);
+        properties.getHealth().setInterval(Duration.ofMillis(100));
+        properties.getHealth().setTimeout(Duration.ofSeconds(1));
+        properties.getHealth().setFailureThreshold(2);
+        SomansaAuthEngine engine = new SomansaAuthEngine(properties, fakeUpstream);
+        SomansaAuthHealthIndicator indicator = new SomansaAuthHealthIndicator(engine);
+
+        // 백그라운드 확인 결과: 대상별 상태와 소요 시간
+        awaitStatus(engine, MATTERMOST, UpstreamHealth.Status.UP);
+        awaitStatus(engine, UpstreamHealthMonitor.BUS_SYSTEM, UpstreamHealth.Status.UP);
+        UpstreamHealth mattermost = health(engine, MATTERMOST);
+        assert mattermost.getRole() == UpstreamHealth.Role.AUTH;
+        assert mattermost.getCheckedAt() != null && mattermost.getLastLatencyMillis() >= 0;
+        Health up = indicator.health();
+        assert up.getStatus() == Status.UP;
+        assert up.getDetails().containsKey(MATTERMOST) && up.getDetails().containsKey(UpstreamHealthMonitor.BUS_SYSTEM);
+        log.info("상태 확인 테스트 통과 - " + engine.getUpstreamHealth());
+
+        // 상태 조회는 보관된 결과만 반환 (조회마다 확인 요청 없음)
+        int probesBefore = probes.get();
+        for (int i = 0; i < 200; i++) {
+            indicator.health();
+        }
+        assert probes.get() - probesBefore <= 4 : probes.get() - probesBefore;
+        log.info("상태 조회 시 외부 호출 없음 테스트 통과");
+
+        // Mattermost 응답 없음: 연속 실패 후 DOWN, 인증은 타임아웃을 기다리지 않고 바로 오류 결과
+        mattermostUp.set(false);
+        awaitStatus(engine, MATTERMOST, UpstreamHealth.Status.DOWN);
+        long startNanos = System.nanoTime();
+        SomansaAuthResult failed = engine.isSomansaEmployee("chan4760@somansa.com", "pw");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        assert failed.getOutcome() == Outcome.UPSTREAM_ERROR;
+        assert loginCalls.get() == 0;
+        assert elapsedMillis < 500 : elapsedMillis;
+        Health down = indicator.health();
+        assert down.getStatus() == Status.DOWN;
+        assert ((Map<?, ?>) down.getDetails().get(MATTERMOST)).get("error") != null;
+        log.info("인증 제공자 빠른 실패 테스트 통과 (" + elapsedMillis + "ms)");
+
+        // 버스 시스템만 응답 없음: 인증은 정상, 이름 조회만 생략 (준비 상태는 UP 유지)
+        mattermostUp.set(true);
+        busUp.set(false);
+        awaitStatus(engine, MATTERMOST, UpstreamHealth.Status.UP);
+        awaitStatus(engine, UpstreamHealthMonitor.BUS_SYSTEM, UpstreamHealth.Status.DOWN);
+        SomansaAuthResult unnamed = engine.getSomansaEmployeeInfo("chan4760@somansa.com", "pw");
+        assert unnamed.getOutcome() == Outcome.EMPLOYEE_MFA;
+        assert unnamed.getUserName() == null;
+        assert loginCalls.get() == 1 && busCalls.get() == 0;
+        assert indicator.health().getStatus() == Status.UP;
+        log.info("버스 시스템 빠른 실패 테스트 통과");
+
+        // 엔진 종료 시 확인 중단
+        engine.close();
+        Thread.sleep(200);
+        int probesAfterClose = probes.get();
+        Thread.sleep(300);
+        assert probes.get() == probesAfterClose;
+        log.info("상태 확인 중단 테스트 통과");
+
+        // 녹화 모드: 주기적 확인 요청은 녹화 파일에 남지 않음
+        Path recording = tempDir.resolve("traffic.rec");
+        properties.getTraffic().setMode(SomansaAuthProperties.Traffic.Mode.RECORD);
+        properties.getTraffic().setFile(recording.toString());
+        SomansaAuthEngine recordingEngine = new SomansaAuthEngine(properties, fakeUpstream);
+        int probesBeforeRecording = probes.get();
+        await(() -> probes.get() - probesBeforeRecording >= 4);
+        assert recordingEngine.isSomansaEmployee("chan4760@somansa.com", "pw").getOutcome() == Outcome.EMPLOYEE_MFA;
+        recordingEngine.close();
+        assert probes.get() - probesBeforeRecording >= 4;
+        assert TrafficReplayer.load(recording, 0, false).getRecordCount() == 1;
+        log.info("확인 요청 녹화 제외 테스트 통과");
+    }
+
+    private static UpstreamHealth health(SomansaAuthEngine engine, String name) {
+        for (UpstreamHealth upstream : engine.getUpstreamHealth()) {
+            if (upstream.getName().equals(name)) {
+                return upstream;
+            }
+        }
+        throw new AssertionError("상태 확인 대상 없음: " + name);
+    }
+
+    private static void awaitStatus(SomansaAuthEngine engine, String name, UpstreamHealth.Status status)
+            throws InterruptedException {
+        await(() -> health(engine, name).getStatus() == status);
+        assert health(engine, name).getStatus() == status : health(engine, name);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 150 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * 가짜 상류 - 상태 확인(ping, HEAD)과 실제 호출을 구분해 집계
+     */
+    private Response fakeUpstream(Interceptor.Chain chain) throws IOException {
+        Request request = chain.request();
+        String path = request.url().encodedPath();
+        boolean bus = request.url().host().startsWith("cs.android");
+        boolean probe = path.endsWith("/system/ping") || "HEAD".equals(request.method());
+        if (probe) {
+            probes.incrementAndGet();
+        } else if (bus) {
+            busCalls.incrementAndGet();
+        } else {
+            loginCalls.incrementAndGet();
+        }
+        if (!(bus ? busUp.get() : mattermostUp.get())) {
+            throw new IOException("connect timed out");
+        }
+        Response.Builder builder = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK");
+        if (!probe && !bus) {
+            return builder.code(401).message("Unauthorized")
+                    .body(ResponseBody.create(MFA_BODY, MediaType.get("application/json")))
+                    .build();
+        }
+        return builder.body(ResponseBody.create("{\"status\":\"OK\"}", MediaType.get("application/json"))).build();
+    }
+}
@@ -0,0 +1,155 @@
+package me.suhsaechan.suhsomansaauth.service;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthProperties;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 외부 호출 재시도 테스트
+ */
+@Slf4j
+class UpstreamHttpClientTest {
+
+    // 시도마다 꺼내 쓸 결과 (정수: 응답 코드, IOException: 실패)
+    private final Deque<Object> outcomes = new ArrayDeque<>();
+    private int calls;
+
+    @Test
+    void mainTest() throws Exception {
+        SomansaAuthProperties.Retry config = new SomansaAuthProperties.Retry();
+        config.setBaseDelay(Duration.ofMillis(1));
+        config.setMaxDelay(Duration.ofMillis(5));
+        config.setBudgetMaxTokens(3);
+        config.setBudgetRatio(0.1);
+        RetryStats stats = new RetryStats();
+        RetryPolicy retryPolicy = new RetryPolicy(config, stats);
+
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(chain -> fakeServer(chain.request()))
+                .build();
+        UpstreamHttpClient upstream = new UpstreamHttpClient(client,
+                new AdaptiveTimeoutPolicy(new SomansaAuthProperties.Adaptive()), retryPolicy);
+        Request request = new Request.Builder().url("https://example.com/").build();
+
+        // 버스 시스템 단계: 연결 타임아웃은 재시도
+        respond(new SocketTimeoutException("connect timed out"), 200);
+        try (Response response = upstream.execute(SomansaEndpoint.BUS_HOME, request)) {
+            assert response.code() == 200;
+        }
+        assert calls == 2;
+        log.info("버스 단계 재시도 테스트 통과");
+
+        // 버스 시스템 단계: 읽기 타임아웃은 재시도하지 않음 (타임아웃만큼 이미 기다림)
+        respond(new SocketTimeoutException("timeout"), 200);
+        try {
+            upstream.execute(SomansaEndpoint.BUS_HOME, request).close();
+            assert false;
+        } catch (SocketTimeoutException expected) {
+            assert calls == 1;
+        }
+        outcomes.clear();
+        log.info("버스 단계 읽기 타임아웃 테스트 통과");
+
+        // Mattermost 로그인: 읽기 타임아웃은 재시도하지 않음 (요청이 처리되었을 수 있음)
+        respond(new SocketTimeoutException("timeout"), 200);
+        try {
+            upstream.execute(SomansaEndpoint.MATTERMOST_LOGIN, request).close();
+            assert false;
+        } catch (SocketTimeoutException expected) {
+            assert calls == 1;
+        }
+        outcomes.clear();
+
+        // Mattermost 로그인: 연결 실패와 503 은 재시도
+        respond(new ConnectException("Connection refused"), 503, 200);
+        try (Response response = upstream.execute(SomansaEndpoint.MATTERMOST_LOGIN, request)) {
+            assert response.code() == 200;
+        }
+        assert calls == 3;
+        log.info("Mattermost 재시도 분류 테스트 통과");
+
+        // 예산 소진 후에는 재시도하지 않음 (토큰 3개를 모두 사용한 상태)
+        for (int i = 0; i < 5; i++) {
+            respond(503, 200);
+            try (Response response = upstream.execute(SomansaEndpoint.MATTERMOST_LOGIN, request)) {
+                assert response.code() == 503 && calls == 1;
+            }
+            outcomes.clear();
+        }
+        assert stats.getTotalBudgetExhausted() == 5;
+        assert stats.getTotalRetries() == 3;
+        log.info("재시도 예산 테스트 통과 - {}", stats);
+
+        // 최대 시도 횟수 도달 시 마지막 응답 반환
+        config.setBudgetMaxTokens(10);
+        RetryStats freshStats = new RetryStats();
+        UpstreamHttpClient freshUpstream = new UpstreamHttpClient(client,
+                new AdaptiveTimeoutPolicy(new SomansaAuthProperties.Adaptive()), new RetryPolicy(config, freshStats));
+        respond(502, 502, 502, 200);
+        try (Response response = freshUpstream.execute(SomansaEndpoint.MATTERMOST_LOGIN, request)) {
+            assert response.code() == 502 && calls == 3;
+        }
+        outcomes.clear();
+        assert freshStats.getAttemptsExhausted(SomansaEndpoint.MATTERMOST_LOGIN) == 1;
+        log.info("최대 시도 횟수 테스트 통과");
+
+        // 비동기 경로도 같은 정책으로 재시도
+        RetryPolicy asyncPolicy = new RetryPolicy(config, new RetryStats());
+        UpstreamHttpClient asyncUpstream = new UpstreamHttpClient(client,
+                new AdaptiveTimeoutPolicy(new SomansaAuthProperties.Adaptive()), asyncPolicy);
+        respond(new IOException("unexpected end of stream"), 500, 200);
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        asyncUpstream.enqueue(new AsyncOperation(), client, SomansaEndpoint.BUS_LOGIN_CHECK, request,
+                new UpstreamHttpClient.UpstreamCallback() {
+                    @Override
+                    public void onResponse(Response response) {
+                        result.complete(response.code());
+                    }
+
+                    @Override
+                    public void onFailure(IOException e) {
+                        result.completeExceptionally(e);
+                    }
+                });
+        assert result.get(10, TimeUnit.SECONDS) == 200;
+        assert calls == 3;
+        log.info("비동기 재시도 테스트 통과");
+    }
+
+    private void respond(Object... results) {
+        calls = 0;
+        for (Object result : results) {
+            outcomes.add(result);
+        }
+    }
+
+    private synchronized Response fakeServer(Request request) throws IOException {
+        calls++;
+        Object outcome = outcomes.poll();
+        if (outcome instanceof IOException) {
+            throw (IOException) outcome;
+        }
+        int code = outcome != null ? (Integer) outcome : 200;
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("fake")
+                .body(ResponseBody.create("", MediaType.get("text/plain")))
+                .build();
+    }
+}
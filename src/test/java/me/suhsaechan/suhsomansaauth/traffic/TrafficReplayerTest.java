@@ -0,0 +1,212 @@
+package me.suhsaechan.suhsomansaauth.traffic;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import me.suhsaechan.suhsomansaauth.config.SomansaAuthProperties;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult;
+import me.suhsaechan.suhsomansaauth.dto.SomansaAuthResult.Outcome;
+import me.suhsaechan.suhsomansaauth.service.SomansaAuthEngine;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Cookie;
+import okhttp3.CookieJar;
+import okhttp3.EventListener;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 외부 호출 녹화/재생 테스트
+ */
+@Slf4j
+class TrafficReplayerTest {
+
+    private static final String LOGIN_URL = "https://mattermost.somansa.com/api/v4/users/login";
+    private static final String BUS_LOGIN_PAGE_URL = "https://cs.android.busin.co.kr/Login.aspx?device=";
+    private static final String MFA_BODY = "{\"id\":\"mfa.validate_token.authenticate.app_error\","
+            + "\"message\":\"chan4760@somansa.com MFA\",\"request_id\":\"req-1\"}";
+    private static final long UPSTREAM_LATENCY_MILLIS = 80;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void mainTest() throws Exception {
+        Path file = tempDir.resolve("traffic.rec");
+
+        // 녹화: 엔진이 공유 클라이언트(가짜 상류)를 감싸 가장 바깥에 녹화 인터셉터 등록
+        OkHttpClient fakeUpstream = new OkHttpClient.Builder()
+                .addInterceptor(this::fakeUpstream)
+                .build();
+        SomansaAuthProperties recordProperties = new SomansaAuthProperties();
+        recordProperties.getCache().setType(SomansaAuthProperties.Cache.Type.NONE);
+        recordProperties.getTraffic().setMode(SomansaAuthProperties.Traffic.Mode.RECORD);
+        recordProperties.getTraffic().setFile(file.toString());
+        SomansaAuthEngine recordingEngine = new SomansaAuthEngine(recordProperties, fakeUpstream);
+        for (int i = 0; i < 3; i++) {
+            assert recordingEngine.isSomansaEmployee("chan4760@somansa.com", "secret-pw!").getOutcome() == Outcome.EMPLOYEE_MFA;
+        }
+        recordingEngine.close();
+
+        // 버스 로그인 페이지(쿠키)와 호출 실패도 녹화
+        try (TrafficRecorder recorder = TrafficRecorder.open(tempDir.resolve("bus.rec"), 1024)) {
+            OkHttpClient client = new OkHttpClient.Builder()
+                    .addInterceptor(recorder)
+                    .addInterceptor(this::fakeUpstream)
+                    .build();
+            client.newCall(new Request.Builder().url(BUS_LOGIN_PAGE_URL).build()).execute().close();
+            try {
+                client.newCall(new Request.Builder().url("https://cs.android.busin.co.kr/Home.aspx").build()).execute();
+                assert false;
+            } catch (IOException expected) {
+                // 녹화 후 그대로 전달
+            }
+            assert recorder.getRecordCount() == 2;
+        }
+
+        // 녹화 파일: 비밀번호/로그인 ID/쿠키 값 제거
+        List<TrafficRecord> records = TrafficReplayer.readAll(file);
+        assert records.size() == 3;
+        TrafficRecord login = records.get(0);
+        String requestBody = new String(login.requestBody, StandardCharsets.UTF_8);
+        assert !requestBody.contains("secret-pw!") && requestBody.contains("\"password\":\"***\"");
+        assert requestBody.contains("ch******@somansa.com") && !requestBody.contains("chan4760");
+        assert !new String(login.responseBody, StandardCharsets.UTF_8).contains("chan4760");
+        assert login.latencyMillis >= UPSTREAM_LATENCY_MILLIS;
+        List<TrafficRecord> busRecords = TrafficReplayer.readAll(tempDir.resolve("bus.rec"));
+        assert busRecords.get(0).responseHeaders.contains("ASP.NET_SessionId=REDACTED; path=/; HttpOnly");
+        assert busRecords.get(1).isFailure();
+        log.info("녹화 민감정보 제거 테스트 통과 - 파일 크기: {}B", Files.size(file));
+
+        // 재생 (원래 속도): 네트워크 없이 같은 결과와 지연시간 재현
+        SomansaAuthEngine replayEngine = replayEngine(file, 1.0);
+        long startNanos = System.nanoTime();
+        SomansaAuthResult replayed = replayEngine.isSomansaEmployee("someone@somansa.com", "any");
+        long originalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        assert replayed.getOutcome() == Outcome.EMPLOYEE_MFA;
+        assert "req-1".equals(replayed.getRequestId());
+        assert originalMillis >= UPSTREAM_LATENCY_MILLIS - 5 : originalMillis;
+        log.info("원래 속도 재생 테스트 통과 ({}ms)", originalMillis);
+
+        // 재생 (10배속): 지연시간 축소, 녹화 소진 후 처음부터 반복
+        SomansaAuthEngine fastEngine = replayEngine(file, 10.0);
+        startNanos = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            assert fastEngine.isSomansaEmployee("someone@somansa.com", "any").getOutcome() == Outcome.EMPLOYEE_MFA;
+        }
+        long fastMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) / 5;
+        assert fastMillis < UPSTREAM_LATENCY_MILLIS / 2 : fastMillis;
+        log.info("가속 재생 테스트 통과 (호출당 {}ms)", fastMillis);
+
+        // 재생: 쿠키는 바인딩한 저장소에 저장, 호출 실패도 재현
+        TrafficReplayer busReplayer = TrafficReplayer.load(tempDir.resolve("bus.rec"), 0, false);
+        List<Cookie> saved = new ArrayList<>();
+        OkHttpClient busClient = new OkHttpClient.Builder()
+                .addInterceptor(busReplayer.withCookieJar(new CookieJar() {
+                    @Override
+                    public void saveFromResponse(HttpUrl url, List<Cookie> cookies) {
+                        saved.addAll(cookies);
+                    }
+
+                    @Override
+                    public List<Cookie> loadForRequest(HttpUrl url) {
+                        return List.of();
+                    }
+                }))
+                .build();
+        busClient.newCall(new Request.Builder().url(BUS_LOGIN_PAGE_URL).build()).execute().close();
+        assert saved.size() == 1 && saved.get(0).name().equals("ASP.NET_SessionId");
+        try {
+            busClient.newCall(new Request.Builder().url("https://cs.android.busin.co.kr/Home.aspx").build()).execute();
+            assert false;
+        } catch (IOException expected) {
+            assert expected.getMessage().contains("재생된 호출 실패");
+        }
+        // 반복 재생을 끄면 소진 후 실패
+        try {
+            busClient.newCall(new Request.Builder().url(BUS_LOGIN_PAGE_URL).build()).execute();
+            assert false;
+        } catch (IOException expected) {
+            assert expected.getMessage().contains("녹화되지 않은 요청");
+        }
+        log.info("쿠키/실패 재생 테스트 통과");
+
+        // 재생 지연 중 취소: 취소 이벤트로 바로 깨어나 실패 (0.01배속이면 지연 8초 이상)
+        TrafficReplayer slowReplayer = TrafficReplayer.load(file, 0.01, true);
+        OkHttpClient slowClient = new OkHttpClient.Builder()
+                .addInterceptor(slowReplayer)
+                .eventListenerFactory(slowReplayer.cancellationListener(call -> EventListener.NONE))
+                .build();
+        Call slowCall = slowClient.newCall(new Request.Builder().url(LOGIN_URL)
+                .post(RequestBody.create("{}", MediaType.get("application/json"))).build());
+        CountDownLatch failed = new CountDownLatch(1);
+        slowCall.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                failed.countDown();
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                response.close();
+            }
+        });
+        Thread.sleep(50);
+        startNanos = System.nanoTime();
+        slowCall.cancel();
+        assert failed.await(1, TimeUnit.SECONDS);
+        long cancelMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        log.info("재생 지연 중 취소 테스트 통과 ({}ms)", cancelMillis);
+    }
+
+    private SomansaAuthEngine replayEngine(Path file, double speed) {
+        SomansaAuthProperties properties = new SomansaAuthProperties();
+        properties.getCache().setType(SomansaAuthProperties.Cache.Type.NONE);
+        properties.getTraffic().setMode(SomansaAuthProperties.Traffic.Mode.REPLAY);
+        properties.getTraffic().setFile(file.toString());
+        properties.getTraffic().setReplaySpeed(speed);
+        return new SomansaAuthEngine(properties);
+    }
+
+    /**
+     * 가짜 상류 - Mattermost 는 MFA 응답, 버스 로그인 페이지는 세션 쿠키, Home 은 연결 실패
+     */
+    private Response fakeUpstream(Interceptor.Chain chain) throws IOException {
+        Request request = chain.request();
+        try {
+            Thread.sleep(UPSTREAM_LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Response.Builder builder = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1);
+        if (request.url().toString().equals(LOGIN_URL)) {
+            return builder.code(401).message("Unauthorized")
+                    .body(ResponseBody.create(MFA_BODY, MediaType.get("application/json")))
+                    .build();
+        }
+        if (request.url().encodedPath().endsWith("Login.aspx")) {
+            return builder.code(200).message("OK")
+                    .header("Set-Cookie", "ASP.NET_SessionId=abc123; path=/; HttpOnly")
+                    .body(ResponseBody.create("<html></html>", MediaType.get("text/html")))
+                    .build();
+        }
+        throw new IOException("connect timed out");
+    }
+}
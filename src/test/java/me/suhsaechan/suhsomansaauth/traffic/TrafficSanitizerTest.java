@@ -0,0 +1,42 @@
+package me.suhsaechan.suhsomansaauth.traffic;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 녹화 데이터 민감정보 제거 테스트
+ */
+@Slf4j
+class TrafficSanitizerTest {
+
+    @Test
+    void mainTest() {
+        // Mattermost 사용자 객체: 이름/별명은 첫 글자만, 사용자명/이메일은 로그인 ID 와 같은 방식으로 마스킹
+        String user = "{\"id\":\"u1\",\"username\":\"chan4760\",\"email\":\"chan4760@somansa.com\","
+                + "\"first_name\":\"새찬\",\"last_name\":\"서\",\"nickname\":\"Saechan Suh\"}";
+        String sanitizedUser = TrafficSanitizer.sanitizeText(user);
+        assert sanitizedUser.contains("\"username\":\"ch******\"") : sanitizedUser;
+        assert sanitizedUser.contains("\"email\":\"ch******@somansa.com\"") : sanitizedUser;
+        assert sanitizedUser.contains("\"first_name\":\"새*\"") : sanitizedUser;
+        assert sanitizedUser.contains("\"last_name\":\"*\"") : sanitizedUser;
+        assert sanitizedUser.contains("\"nickname\":\"S**********\"") : sanitizedUser;
+        assert !sanitizedUser.contains("chan4760") && !sanitizedUser.contains("새찬") && !sanitizedUser.contains("Saechan");
+        log.info("Mattermost 이름 필드 제거 테스트 통과 - {}", sanitizedUser);
+
+        // 버스 시스템 Home: 이름 요소(noticeClear, lblUserName)와 인사말
+        String home = "<html><body>\n<span id=\"noticeClear\">서새찬</span>\n"
+                + "<span class=\"name\" id=\"lblUserName\"> 서새찬 </span>\n"
+                + "<div class=\"contents-box\"><p class=\"title\">서새찬 님 안녕하세요</p></div>\n</body></html>";
+        String sanitizedHome = TrafficSanitizer.sanitizeText(home);
+        assert !sanitizedHome.contains("서새찬") : sanitizedHome;
+        assert sanitizedHome.contains("<span id=\"noticeClear\">서**</span>") : sanitizedHome;
+        assert sanitizedHome.contains("<span class=\"name\" id=\"lblUserName\">서**</span>") : sanitizedHome;
+        assert sanitizedHome.contains("서** 님 안녕하세요") : sanitizedHome;
+        log.info("버스 Home 이름 제거 테스트 통과");
+
+        // 이름이 없는 응답은 그대로
+        String plain = "{\"id\":\"mfa.validate_token.authenticate.app_error\",\"message\":\"MFA\"}";
+        assert plain.equals(TrafficSanitizer.sanitizeText(plain));
+        log.info("이름 없는 응답 유지 테스트 통과");
+    }
+}